@@ -0,0 +1,52 @@
+package by.andd3dfx.templateapp.configs;
+
+import by.andd3dfx.templateapp.persistence.bulkhead.BulkheadAspect;
+import by.andd3dfx.templateapp.persistence.bulkhead.BulkheadDataSource;
+import by.andd3dfx.templateapp.persistence.bulkhead.BulkheadPartition;
+import by.andd3dfx.templateapp.persistence.bulkhead.ConnectionBulkheads;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Partitions connections of main data source (`dataSource` bean) between kinds of work.
+ */
+@Configuration
+@EnableConfigurationProperties(BulkheadProperties.class)
+@ConditionalOnProperty(name = "datasource.bulkheads.enabled", havingValue = "true", matchIfMissing = true)
+public class BulkheadConfig {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    @Bean
+    public ConnectionBulkheads connectionBulkheads(BulkheadProperties properties) {
+        return new ConnectionBulkheads(Map.of(
+            BulkheadPartition.POINT_READ, properties.getPointReadConnections(),
+            BulkheadPartition.LIST_SCAN, properties.getListScanConnections(),
+            BulkheadPartition.WRITE, properties.getWriteConnections()
+        ), properties.getAcquireTimeout());
+    }
+
+    @Bean
+    public BulkheadAspect bulkheadAspect() {
+        return new BulkheadAspect();
+    }
+
+    @Bean
+    public static BeanPostProcessor bulkheadDataSourcePostProcessor(ObjectProvider<ConnectionBulkheads> bulkheads) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN_NAME.equals(beanName) && bean instanceof DataSource) {
+                    return new BulkheadDataSource((DataSource) bean, bulkheads.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package by.andd3dfx.templateapp.configs;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Shares of DB connections of kinds of work (see {@link by.andd3dfx.templateapp.persistence.bulkhead.Bulkhead}).
+ * Sum of shares shouldn't exceed size of connection pool.
+ */
+@Data
+@ConfigurationProperties(prefix = "datasource.bulkheads")
+public class BulkheadProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * How long to wait for free connection of partition before failing.
+     */
+    private Duration acquireTimeout = Duration.ofSeconds(5);
+
+    private int pointReadConnections = 4;
+    private int listScanConnections = 3;
+    private int writeConnections = 3;
+}
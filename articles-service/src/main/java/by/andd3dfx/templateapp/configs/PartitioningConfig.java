@@ -0,0 +1,21 @@
+package by.andd3dfx.templateapp.configs;
+
+import by.andd3dfx.templateapp.persistence.partitioning.ArticlePartitionMaintainer;
+import java.time.Clock;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(PartitioningProperties.class)
+@ConditionalOnProperty(name = "partitioning.articles.enabled", havingValue = "true", matchIfMissing = true)
+public class PartitioningConfig {
+
+    @Bean
+    public ArticlePartitionMaintainer articlePartitionMaintainer(DataSource dataSource,
+        PartitioningProperties properties) {
+        return new ArticlePartitionMaintainer(dataSource, properties, Clock.systemDefaultZone());
+    }
+}
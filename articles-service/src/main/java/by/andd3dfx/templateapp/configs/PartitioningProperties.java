@@ -0,0 +1,32 @@
+package by.andd3dfx.templateapp.configs;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Maintenance of monthly partitions of articles (PostgreSQL only, see `V10__Partition_articles_by_date_created.sql`).
+ */
+@Data
+@ConfigurationProperties(prefix = "partitioning.articles")
+public class PartitioningProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Partitions are created for current month and this amount of next months, so inserts never miss partition
+     * while at least one check of this period succeeds.
+     */
+    private int monthsAhead = 3;
+
+    /**
+     * How often missing partitions are checked and created.
+     */
+    private Duration checkInterval = Duration.ofHours(6);
+
+    /**
+     * Creation of partition locks the whole table: it gives up (until the next check) instead of waiting
+     * for long queries to finish and blocking all queries which come after it.
+     */
+    private Duration lockTimeout = Duration.ofSeconds(5);
+}
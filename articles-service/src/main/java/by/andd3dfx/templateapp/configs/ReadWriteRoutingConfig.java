@@ -0,0 +1,62 @@
+package by.andd3dfx.templateapp.configs;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Opt-in mode which sends read-only transactions (`@Transactional(readOnly = true)`) to replicas of DB
+ * and everything else to primary DB (`spring.datasource.*`).
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+@ConditionalOnProperty(name = "datasource.replicas.enabled", havingValue = "true")
+public class ReadWriteRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        var dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(ReadWriteRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    /**
+     * Pools of replicas have the same settings as pool of primary DB.
+     */
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(HikariDataSource primaryDataSource,
+        ReplicaProperties replicaProperties) {
+        var urls = replicaProperties.getUrls();
+        var replicas = IntStream.range(0, urls.size())
+            .mapToObj(i -> {
+                var replica = new HikariDataSource();
+                primaryDataSource.copyStateTo(replica);
+                replica.setPoolName(ReadWriteRoutingDataSource.REPLICA_PREFIX + i);
+                replica.setJdbcUrl(urls.get(i));
+                if (replicaProperties.getUsername() != null) {
+                    replica.setUsername(replicaProperties.getUsername());
+                    replica.setPassword(replicaProperties.getPassword());
+                }
+                replica.setReadOnly(true);
+                return (DataSource) replica;
+            })
+            .collect(Collectors.toList());
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas, replicaProperties);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+}
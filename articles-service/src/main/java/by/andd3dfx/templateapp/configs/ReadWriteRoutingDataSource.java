@@ -0,0 +1,180 @@
+package by.andd3dfx.templateapp.configs;
+
+import by.andd3dfx.templateapp.util.PeriodicTask;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes connections of read-only transactions to replicas (round-robin), all other connections go to primary DB.
+ * <p>
+ * Replicas are checked periodically: unreachable replica or replica which lags behind primary more than allowed
+ * is skipped until the next successful check. When no replica is available, reads go to primary.
+ * <p>
+ * Read-only flag of transaction is set after transaction begins, so this data source should be wrapped
+ * by {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which fetches connection
+ * on first statement only.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource
+    implements SmartLifecycle, MeterBinder, AutoCloseable {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA_PREFIX = "replica-";
+
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private final String lagQuery;
+    private final AtomicInteger counter = new AtomicInteger();
+    private final PeriodicTask checks;
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources,
+        ReplicaProperties properties) {
+        this.replicas = IntStream.range(0, replicaDataSources.size())
+            .mapToObj(i -> new Replica(REPLICA_PREFIX + i, replicaDataSources.get(i)))
+            .collect(Collectors.toList());
+        this.maxLag = properties.getMaxLag();
+        this.checkInterval = properties.getCheckInterval();
+        this.lagQuery = properties.getLagQuery();
+        this.checks = new PeriodicTask("replica-check", this::checkReplicas, checkInterval);
+
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(PRIMARY, primary);
+        replicas.forEach(replica -> targetDataSources.put(replica.key, replica.dataSource));
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        int start = Math.floorMod(counter.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.available) {
+                return replica.key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * Updates availability of replicas.
+     */
+    void checkReplicas() {
+        for (Replica replica : replicas) {
+            String failure = null;
+            try {
+                replica.lagSeconds = measureLagSeconds(replica.dataSource);
+            } catch (SQLException | RuntimeException e) {
+                replica.lagSeconds = Double.NaN;
+                failure = e.getMessage();
+            }
+            boolean available = replica.lagSeconds <= maxLag.toMillis() / 1000.0;
+            if (!replica.checked || available != replica.available) {
+                if (available) {
+                    log.info("{} is enabled for reads, lag is {} seconds", replica.key, replica.lagSeconds);
+                } else {
+                    log.warn("{} is disabled for reads, lag is {} seconds{}", replica.key, replica.lagSeconds,
+                        failure != null ? ": " + failure : "");
+                }
+            }
+            replica.available = available;
+            replica.checked = true;
+        }
+    }
+
+    /**
+     * @return lag of replica in seconds, NaN when it's unknown
+     */
+    private double measureLagSeconds(DataSource dataSource) throws SQLException {
+        try (var connection = dataSource.getConnection()) {
+            if (lagQuery == null || lagQuery.isBlank()) {
+                return connection.isValid((int) checkInterval.toSeconds()) ? 0 : Double.NaN;
+            }
+            try (var statement = connection.createStatement();
+                var resultSet = statement.executeQuery(lagQuery)) {
+                if (!resultSet.next()) {
+                    return Double.NaN;
+                }
+                double lag = resultSet.getDouble(1);
+                return resultSet.wasNull() ? Double.NaN : lag;
+            }
+        }
+    }
+
+    /**
+     * Exposes `datasource.replica.lag` (seconds, NaN when unknown) and `datasource.replica.available` gauges.
+     */
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        for (Replica replica : replicas) {
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagSeconds)
+                .description("Lag of replica behind primary DB")
+                .baseUnit("seconds")
+                .tag("replica", replica.key)
+                .register(meterRegistry);
+            Gauge.builder("datasource.replica.available", replica, r -> r.available ? 1 : 0)
+                .description("Whether replica serves read-only transactions")
+                .tag("replica", replica.key)
+                .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public void start() {
+        checks.start();
+    }
+
+    @Override
+    public void stop() {
+        checks.stop();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return checks.isRunning();
+    }
+
+    /**
+     * Closes pools of replicas, primary is closed as separate bean.
+     */
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable) {
+                ((AutoCloseable) replica.dataSource).close();
+            }
+        }
+    }
+
+    private static class Replica {
+
+        private final String key;
+        private final DataSource dataSource;
+        private volatile boolean checked;
+        private volatile boolean available;
+        private volatile double lagSeconds = Double.NaN;
+
+        Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package by.andd3dfx.templateapp.configs;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of read-only replicas of DB, which serve read-only transactions.
+ */
+@Data
+@ConfigurationProperties(prefix = "datasource.replicas")
+public class ReplicaProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * JDBC URLs of replicas.
+     */
+    private List<String> urls = new ArrayList<>();
+
+    /**
+     * Credentials of replicas, credentials of primary DB are used when not set.
+     */
+    private String username;
+    private String password;
+
+    /**
+     * Replica is excluded from routing while its lag behind primary is greater than this.
+     */
+    private Duration maxLag = Duration.ofSeconds(10);
+
+    /**
+     * How often availability and lag of replicas are checked.
+     */
+    private Duration checkInterval = Duration.ofSeconds(5);
+
+    /**
+     * Query which returns lag of replica in seconds. When not set, replica is checked by `Connection.isValid()` only.
+     */
+    private String lagQuery;
+}
@@ -0,0 +1,47 @@
+package by.andd3dfx.templateapp.configs;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of regions of Hibernate second-level cache.
+ */
+@Data
+@ConfigurationProperties(prefix = "second-level-cache")
+public class SecondLevelCacheProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Region of {@link by.andd3dfx.templateapp.persistence.entities.Article} entities, read by id.
+     */
+    private Region article = new Region(10_000, Duration.ofMinutes(10));
+
+    /**
+     * Region of results of cacheable queries (lists of article summaries).
+     */
+    private Region queryResults = new Region(1000, Duration.ofMinutes(1));
+
+    @Data
+    public static class Region {
+
+        /**
+         * Max amount of entries in region.
+         */
+        private long maximumSize;
+
+        /**
+         * How long entry stays in region after it was put.
+         */
+        private Duration expireAfterWrite;
+
+        public Region() {
+        }
+
+        public Region(long maximumSize, Duration expireAfterWrite) {
+            this.maximumSize = maximumSize;
+            this.expireAfterWrite = expireAfterWrite;
+        }
+    }
+}
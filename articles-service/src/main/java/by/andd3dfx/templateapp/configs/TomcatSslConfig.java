@@ -0,0 +1,36 @@
+package by.andd3dfx.templateapp.configs;
+
+import java.time.Duration;
+import org.apache.tomcat.util.net.SSLHostConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Server-side TLS session cache: allows clients (Facade Service) to resume TLS sessions
+ * instead of making full handshake on each new connection.
+ */
+@Configuration
+@ConditionalOnProperty(name = "server.ssl.enabled", havingValue = "true")
+public class TomcatSslConfig {
+
+    @Value("${ssl.session.cache-size:10000}")
+    private int sessionCacheSize;
+
+    @Value("${ssl.session.timeout:24h}")
+    private Duration sessionTimeout;
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> sslSessionCacheCustomizer() {
+        // Connector customizers are applied after SSL configured by Spring Boot, so SSLHostConfig is present already
+        return factory -> factory.addConnectorCustomizers(connector -> {
+            for (SSLHostConfig sslHostConfig : connector.findSslHostConfigs()) {
+                sslHostConfig.setSessionCacheSize(sessionCacheSize);
+                sslHostConfig.setSessionTimeout((int) sessionTimeout.toSeconds());
+            }
+        });
+    }
+}
@@ -1,7 +1,14 @@
 package by.andd3dfx.templateapp.controllers;
 
+import by.andd3dfx.templateapp.dto.ArticleAuthorUpdateDto;
+import by.andd3dfx.templateapp.dto.ArticleChangeDto;
 import by.andd3dfx.templateapp.dto.ArticleDto;
+import by.andd3dfx.templateapp.dto.ArticleSummaryDto;
 import by.andd3dfx.templateapp.dto.ArticleUpdateDto;
+import by.andd3dfx.templateapp.dto.BulkResultDto;
+import by.andd3dfx.templateapp.dto.ImportResultDto;
+import by.andd3dfx.templateapp.dto.KeysetPage;
+import by.andd3dfx.templateapp.dto.KeysetSort;
 import by.andd3dfx.templateapp.services.IArticleService;
 import io.swagger.annotations.ApiImplicitParam;
 import io.swagger.annotations.ApiImplicitParams;
@@ -9,14 +16,29 @@ import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import javax.validation.groups.Default;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.SortDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -25,14 +47,24 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/articles")
+@Validated
 public class ArticleController {
 
+    static final int MAX_BATCH_SIZE = 10_000;
+    // Ids are passed in URL, which is limited by `server.max-http-header-size` (8KB by default)
+    static final int MAX_IDS = 1000;
+    static final int MAX_LOOKUP_LIMIT = 100;
+    static final int MAX_PAGE_SIZE = 1000;
+    static final String TEXT_CSV_VALUE = "text/csv";
+
     private final IArticleService articleService;
 
     @ApiOperation(value = "Create new article", response = ArticleDto.class)
@@ -49,6 +81,22 @@ public class ArticleController {
         return articleService.create(newArticleDto);
     }
 
+    @ApiOperation(value = "Create batch of new articles in single transaction", response = ArticleDto.class,
+        responseContainer = "List")
+    @ApiResponses(value = {
+        @ApiResponse(code = 201, message = "Articles successfully created"),
+        @ApiResponse(code = 400, message = "Some of articles are invalid, none of articles created"),
+    })
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<ArticleDto> createArticles(
+        @ApiParam("New articles' data")
+        @Size(min = 1, max = MAX_BATCH_SIZE, message = "Batch size must be between 1 and " + MAX_BATCH_SIZE)
+        @RequestBody List<@Valid ArticleDto> newArticleDtos
+    ) {
+        return articleService.createAll(newArticleDtos);
+    }
+
     @ApiOperation(value = "Get article by id", response = ArticleDto.class)
     @ApiResponses(value = {
         @ApiResponse(code = 200, message = "Article successfully retrieved"),
@@ -70,6 +118,23 @@ public class ArticleController {
     })
     @PatchMapping("/{id}")
     public void updateArticle(
+        @ApiParam("Article's id")
+        @NotNull
+        @PathVariable Long id,
+        @ApiParam("Updated fields of article")
+        @Validated({Default.class, ArticleUpdateDto.SingleField.class})
+        @RequestBody ArticleUpdateDto articleUpdateDto
+    ) {
+        articleService.update(id, articleUpdateDto);
+    }
+
+    @ApiOperation("Update several fields of article at once by JSON Merge Patch")
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Article successfully updated"),
+        @ApiResponse(code = 404, message = "Article not found"),
+    })
+    @PatchMapping(value = "/{id}", consumes = ArticleUpdateDto.MERGE_PATCH_JSON_VALUE)
+    public void patchArticle(
         @ApiParam("Article's id")
         @NotNull
         @PathVariable Long id,
@@ -95,6 +160,46 @@ public class ArticleController {
         articleService.delete(id);
     }
 
+    @ApiOperation(value = "Delete articles by ids", response = BulkResultDto.class)
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Articles successfully deleted, absent ids are ignored"),
+    })
+    @DeleteMapping(params = "ids")
+    public BulkResultDto deleteArticles(
+        @ApiParam("Articles' ids")
+        @Size(min = 1, max = MAX_IDS, message = "Amount of ids must be between 1 and " + MAX_IDS)
+        @RequestParam List<Long> ids
+    ) {
+        return articleService.deleteAll(ids);
+    }
+
+    @ApiOperation(value = "Delete all articles of author", response = BulkResultDto.class)
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Articles successfully deleted"),
+    })
+    @DeleteMapping(params = "author")
+    public BulkResultDto deleteArticlesByAuthor(
+        @ApiParam("Author of articles")
+        @RequestParam String author
+    ) {
+        return articleService.deleteByAuthor(author);
+    }
+
+    @ApiOperation(value = "Change author of all articles of author", response = BulkResultDto.class)
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Articles successfully updated"),
+    })
+    @PatchMapping(params = "author")
+    public BulkResultDto updateArticlesAuthor(
+        @ApiParam("Current author of articles")
+        @RequestParam String author,
+        @ApiParam("New author")
+        @Validated
+        @RequestBody ArticleAuthorUpdateDto articleAuthorUpdateDto
+    ) {
+        return articleService.updateAuthor(author, articleAuthorUpdateDto);
+    }
+
     @ApiOperation(value = "Read articles paged", response = Slice.class)
     @ApiResponses(value = {
         @ApiResponse(code = 200, message = "Articles successfully retrieved"),
@@ -112,7 +217,7 @@ public class ArticleController {
                 "Multiple sort criteria are supported.",
             defaultValue = "title,ASC")
     })
-    public Slice<ArticleDto> readArticlesPaged(
+    public Slice<ArticleSummaryDto> readArticlesPaged(
         @PageableDefault(page = 0, size = 50)
         @SortDefault.SortDefaults({
             @SortDefault(sort = "title", direction = Sort.Direction.ASC)
@@ -120,4 +225,127 @@ public class ArticleController {
     ) {
         return articleService.getAll(pageable);
     }
+
+    @ApiOperation(value = "Read articles using keyset pagination", response = KeysetPage.class)
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Articles successfully retrieved"),
+        @ApiResponse(code = 409, message = "Invalid cursor"),
+    })
+    @GetMapping("/scroll")
+    public KeysetPage<ArticleSummaryDto> readArticlesScrolled(
+        @ApiParam("Author of articles, absent for articles of all authors. "
+            + "Articles of author sorted by DATE_CREATED are read by index")
+        @RequestParam(required = false) String author,
+        @ApiParam("Sort key, ignored when cursor is present")
+        @RequestParam(defaultValue = "TITLE") KeysetSort sortBy,
+        @ApiParam("Sort direction, ignored when cursor is present")
+        @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+        @ApiParam("Number of records per page")
+        @Min(value = 1, message = "Page size should be between 1 and " + MAX_PAGE_SIZE)
+        @Max(value = MAX_PAGE_SIZE, message = "Page size should be between 1 and " + MAX_PAGE_SIZE)
+        @RequestParam(defaultValue = "50") Integer size,
+        @ApiParam("Cursor from previous page (`nextCursor`), absent for the first page")
+        @RequestParam(required = false) String cursor
+    ) {
+        return articleService.scroll(author, sortBy, direction, size, cursor);
+    }
+
+    @ApiOperation(value = "Read articles updated or deleted since given date & time, the oldest change first",
+        response = KeysetPage.class)
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Changes successfully retrieved"),
+        @ApiResponse(code = 409, message = "Invalid cursor"),
+    })
+    @GetMapping("/changes")
+    public KeysetPage<ArticleChangeDto> readChanges(
+        @ApiParam("Date & time of the last known change (`dateChanged`), absent to get all articles; "
+            + "ignored when cursor is present")
+        @DateTimeFormat(iso = ISO.DATE_TIME)
+        @RequestParam(required = false) LocalDateTime since,
+        @ApiParam("Number of records per page")
+        @Min(value = 1, message = "Page size should be between 1 and " + MAX_PAGE_SIZE)
+        @Max(value = MAX_PAGE_SIZE, message = "Page size should be between 1 and " + MAX_PAGE_SIZE)
+        @RequestParam(defaultValue = "50") Integer size,
+        @ApiParam("Cursor from previous page (`nextCursor`), absent for the first page")
+        @RequestParam(required = false) String cursor
+    ) {
+        return articleService.changes(since, size, cursor);
+    }
+
+    @ApiOperation(value = "Export all articles as NDJSON (one article per line), in order of id")
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Articles successfully exported"),
+    })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportArticles() {
+        // Written asynchronously, in transaction opened by service
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(articleService::export);
+    }
+
+    @ApiOperation(value = "Import articles from NDJSON (one article per line) in single transaction, "
+        + "skipping invalid rows", response = ImportResultDto.class)
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Valid articles imported, invalid rows reported"),
+    })
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ImportResultDto importNdjson(InputStream inputStream) {
+        return articleService.importNdjson(inputStream);
+    }
+
+    @ApiOperation(value = "Import articles from CSV with header (title,summary,text,author) in single transaction, "
+        + "skipping invalid rows", response = ImportResultDto.class)
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Valid articles imported, invalid rows reported"),
+    })
+    @PostMapping(value = "/import", consumes = TEXT_CSV_VALUE)
+    public ImportResultDto importCsv(InputStream inputStream) {
+        return articleService.importCsv(inputStream);
+    }
+
+    @ApiOperation(value = "Search articles by words of title, summary and text, the most relevant first",
+        response = KeysetPage.class)
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Articles successfully retrieved"),
+        @ApiResponse(code = 400, message = "Empty search query"),
+        @ApiResponse(code = 409, message = "Invalid cursor"),
+    })
+    @GetMapping("/search")
+    public KeysetPage<ArticleSummaryDto> searchArticles(
+        @ApiParam("Search query: words, \"quoted phrase\", `or` between alternatives, `-` before excluded word")
+        @NotBlank(message = "Search query shouldn't be blank")
+        @RequestParam String q,
+        @ApiParam("Number of records per page")
+        @Min(value = 1, message = "Page size should be between 1 and " + MAX_PAGE_SIZE)
+        @Max(value = MAX_PAGE_SIZE, message = "Page size should be between 1 and " + MAX_PAGE_SIZE)
+        @RequestParam(defaultValue = "50") Integer size,
+        @ApiParam("Cursor from previous page (`nextCursor`), absent for the first page")
+        @RequestParam(required = false) String cursor
+    ) {
+        return articleService.search(q, size, cursor);
+    }
+
+    @ApiOperation(value = "Fuzzy lookup of articles by title and author, the most similar first",
+        response = ArticleSummaryDto.class, responseContainer = "List")
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Articles successfully retrieved"),
+        @ApiResponse(code = 400, message = "Empty query or invalid threshold or limit"),
+    })
+    @GetMapping("/lookup")
+    public List<ArticleSummaryDto> lookupArticles(
+        @ApiParam("Words of title or author, possibly partial or misspelled")
+        @NotBlank(message = "Query shouldn't be blank")
+        @RequestParam String q,
+        @ApiParam("Min similarity of title or author to query, from 0 to 1")
+        @DecimalMin(value = "0", message = "Threshold should be between 0 and 1")
+        @DecimalMax(value = "1", message = "Threshold should be between 0 and 1")
+        @RequestParam(defaultValue = "0.3") Float threshold,
+        @ApiParam("Max number of records")
+        @Min(value = 1, message = "Limit should be between 1 and " + MAX_LOOKUP_LIMIT)
+        @Max(value = MAX_LOOKUP_LIMIT, message = "Limit should be between 1 and " + MAX_LOOKUP_LIMIT)
+        @RequestParam(defaultValue = "10") Integer limit
+    ) {
+        return articleService.lookup(q, threshold, limit);
+    }
 }
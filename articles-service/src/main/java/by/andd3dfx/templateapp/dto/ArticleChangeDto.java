@@ -0,0 +1,33 @@
+package by.andd3dfx.templateapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import io.swagger.annotations.ApiModelProperty;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entry of changes feed: created/updated article or tombstone of deleted one.
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@JsonInclude(Include.NON_NULL)
+public class ArticleChangeDto {
+
+    @ApiModelProperty(notes = "Article ID")
+    private Long id;
+
+    @ApiModelProperty(notes = "Whether article was deleted")
+    private boolean deleted;
+
+    @ApiModelProperty(notes = "Date & time of article update or deletion")
+    private LocalDateTime dateChanged;
+
+    @ApiModelProperty(notes = "Article as of the change, absent for deleted article")
+    private ArticleSummaryDto article;
+}
@@ -3,7 +3,10 @@ package by.andd3dfx.templateapp.dto;
 import by.andd3dfx.templateapp.validators.OnlyOneFieldModified;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.Nulls;
 import io.swagger.annotations.ApiModelProperty;
+import java.util.Optional;
 import javax.validation.constraints.Size;
 
 import lombok.AllArgsConstructor;
@@ -16,18 +19,39 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Data
 @JsonInclude(Include.NON_NULL)
-@OnlyOneFieldModified
+@OnlyOneFieldModified(groups = ArticleUpdateDto.SingleField.class)
 public class ArticleUpdateDto {
 
+    /**
+     * Media type of JSON Merge Patch (RFC 7386) document, which updates any set of fields of article at once.
+     */
+    public static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    /**
+     * Title is mandatory, so `null` value is rejected.
+     */
+    @JsonSetter(nulls = Nulls.FAIL)
     @Size(min = 1, max = 100, message = "Title length must be between 1 and 100")
     @ApiModelProperty(notes = "Article's title")
     private String title;
 
-    @Size(max = 255, message = "Summary length shouldn't be greater than 255")
-    @ApiModelProperty(notes = "Article's summary")
-    private String summary;
+    /**
+     * Absent summary isn't changed, while `null` one (empty {@link Optional}) removes summary of article.
+     */
+    @ApiModelProperty(notes = "Article's summary", dataType = "java.lang.String")
+    private Optional<@Size(max = 255, message = "Summary length shouldn't be greater than 255") String> summary;
 
+    /**
+     * Text is mandatory, so `null` value is rejected.
+     */
+    @JsonSetter(nulls = Nulls.FAIL)
     @Size(min = 1, message = "Text length should be 1 at least")
     @ApiModelProperty(notes = "Article's text")
     private String text;
+
+    /**
+     * Validation group of `application/json` PATCH, which modifies single field of article.
+     */
+    public interface SingleField {
+    }
 }
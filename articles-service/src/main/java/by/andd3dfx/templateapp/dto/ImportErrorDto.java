@@ -0,0 +1,23 @@
+package by.andd3dfx.templateapp.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Error of row of bulk import.
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class ImportErrorDto {
+
+    @ApiModelProperty(notes = "Number of line in NDJSON, number of record (not counting header) in CSV")
+    private long row;
+
+    @ApiModelProperty(notes = "Reason why row was skipped")
+    private String message;
+}
@@ -0,0 +1,27 @@
+package by.andd3dfx.templateapp.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of bulk import.
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class ImportResultDto {
+
+    @ApiModelProperty(notes = "Amount of imported articles")
+    private long imported;
+
+    @ApiModelProperty(notes = "Amount of rows skipped because of errors")
+    private long failed;
+
+    @ApiModelProperty(notes = "Errors of the first failed rows (up to `import.max-reported-errors`)")
+    private List<ImportErrorDto> errors;
+}
@@ -0,0 +1,21 @@
+package by.andd3dfx.templateapp.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Page of keyset pagination: pass `nextCursor` to get next page, it is absent for the last page.
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class KeysetPage<T> {
+
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+}
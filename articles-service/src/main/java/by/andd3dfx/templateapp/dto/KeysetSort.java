@@ -0,0 +1,40 @@
+package by.andd3dfx.templateapp.dto;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Sort keys supported by keyset pagination, each of them is combined with `id` to make it unique.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum KeysetSort {
+
+    TITLE("title", ArticleSummaryDto::getTitle, value -> value),
+    DATE_CREATED("dateCreated", ArticleSummaryDto::getDateCreated, LocalDateTime::parse),
+    /**
+     * Date of the last update, also used by changes feed.
+     */
+    DATE_UPDATED("dateUpdated", ArticleSummaryDto::getDateUpdated, LocalDateTime::parse),
+    /**
+     * Relevance to search query, used by search only.
+     */
+    RANK("rank", ArticleSummaryDto::getRank, Float::valueOf);
+
+    /**
+     * Name of sort attribute of entity.
+     */
+    private final String attribute;
+    private final Function<ArticleSummaryDto, Comparable<?>> extractor;
+    private final Function<String, Comparable<?>> parser;
+
+    public Comparable<?> valueOf(ArticleSummaryDto articleSummaryDto) {
+        return extractor.apply(articleSummaryDto);
+    }
+
+    public Comparable<?> parse(String value) {
+        return parser.apply(value);
+    }
+}
@@ -4,6 +4,7 @@ import by.andd3dfx.templateapp.dto.ArticleDto;
 import by.andd3dfx.templateapp.dto.ArticleUpdateDto;
 import by.andd3dfx.templateapp.persistence.entities.Article;
 import java.util.List;
+import java.util.Optional;
 import org.mapstruct.Mapper;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.NullValuePropertyMappingStrategy;
@@ -17,5 +18,14 @@ public interface ArticleMapper {
 
     Article toArticle(ArticleDto articleDto);
 
+    List<Article> toArticleList(List<ArticleDto> articleDtos);
+
     void toArticle(ArticleUpdateDto articleUpdateDto, @MappingTarget Article article);
+
+    /**
+     * Absent (`null`) field isn't mapped, while empty one removes field of target.
+     */
+    default String unwrap(Optional<String> value) {
+        return value.orElse(null);
+    }
 }
@@ -0,0 +1,16 @@
+package by.andd3dfx.templateapp.persistence.bulkhead;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * DB connections obtained during execution of annotated method are taken from given partition.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+
+    BulkheadPartition value();
+}
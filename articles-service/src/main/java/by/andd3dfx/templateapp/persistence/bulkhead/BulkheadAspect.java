@@ -0,0 +1,27 @@
+package by.andd3dfx.templateapp.persistence.bulkhead;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Binds partition of {@link Bulkhead} method to current thread.
+ * <p>
+ * Runs outside of transaction, which could take connection as soon as it begins: order 0 gives its advice higher
+ * precedence than transaction interceptor, which has lowest precedence by default.
+ */
+@Aspect
+@Order(0)
+public class BulkheadAspect {
+
+    @Around("@annotation(bulkhead)")
+    public Object bindPartition(ProceedingJoinPoint joinPoint, Bulkhead bulkhead) throws Throwable {
+        var previous = ConnectionBulkheads.bindPartition(bulkhead.value());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ConnectionBulkheads.bindPartition(previous);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package by.andd3dfx.templateapp.persistence.bulkhead;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Data source which hands out connections of target data source within limits of {@link ConnectionBulkheads}.
+ */
+public class BulkheadDataSource extends DelegatingDataSource {
+
+    private final ConnectionBulkheads bulkheads;
+
+    public BulkheadDataSource(DataSource targetDataSource, ConnectionBulkheads bulkheads) {
+        super(targetDataSource);
+        this.bulkheads = bulkheads;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return bulkheads.getConnection(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return bulkheads.getConnection(() -> super.getConnection(username, password));
+    }
+}
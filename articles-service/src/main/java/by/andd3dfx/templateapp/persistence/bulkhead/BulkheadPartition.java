@@ -0,0 +1,22 @@
+package by.andd3dfx.templateapp.persistence.bulkhead;
+
+/**
+ * Kinds of DB work, each of them gets its own share of connections.
+ */
+public enum BulkheadPartition {
+
+    /**
+     * Reads of single article.
+     */
+    POINT_READ,
+
+    /**
+     * Reads of lists of articles.
+     */
+    LIST_SCAN,
+
+    /**
+     * Inserts, updates and deletes.
+     */
+    WRITE
+}
@@ -0,0 +1,171 @@
+package by.andd3dfx.templateapp.persistence.bulkhead;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Limits amount of connections held at once by each {@link BulkheadPartition}, so burst of slow work of one kind
+ * can't take all connections of pool. Connections obtained outside of partition (migrations, health checks)
+ * are not limited.
+ * <p>
+ * Per-partition metrics (tagged by `partition`): `datasource.bulkhead.connections.active`/`idle`/`pending`/`max`
+ * gauges, `datasource.bulkhead.connections.acquire` timer and `datasource.bulkhead.connections.timeout` counter.
+ */
+public class ConnectionBulkheads implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "datasource.bulkhead.connections.";
+    private static final ThreadLocal<BulkheadPartition> CURRENT_PARTITION = new ThreadLocal<>();
+
+    private final Map<BulkheadPartition, Partition> partitions = new EnumMap<>(BulkheadPartition.class);
+    private final Duration acquireTimeout;
+
+    public ConnectionBulkheads(Map<BulkheadPartition, Integer> maxConnections, Duration acquireTimeout) {
+        maxConnections.forEach((partition, max) -> partitions.put(partition, new Partition(partition, max)));
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    /**
+     * @return previously bound partition
+     */
+    static BulkheadPartition bindPartition(BulkheadPartition partition) {
+        var previous = CURRENT_PARTITION.get();
+        if (partition != null) {
+            CURRENT_PARTITION.set(partition);
+        } else {
+            CURRENT_PARTITION.remove();
+        }
+        return previous;
+    }
+
+    /**
+     * Takes connection from data source when partition of current thread has free permit,
+     * the permit is returned when connection is closed.
+     */
+    Connection getConnection(ConnectionSupplier connectionSupplier) throws SQLException {
+        var partitionKey = CURRENT_PARTITION.get();
+        var partition = partitionKey != null ? partitions.get(partitionKey) : null;
+        if (partition == null) {
+            return connectionSupplier.get();
+        }
+
+        long start = System.nanoTime();
+        acquirePermit(partition);
+        try {
+            var connection = connectionSupplier.get();
+            partition.recordAcquire(System.nanoTime() - start);
+            return releasingOnClose(connection, partition.permits);
+        } catch (SQLException | RuntimeException e) {
+            partition.permits.release();
+            throw e;
+        }
+    }
+
+    private void acquirePermit(Partition partition) throws SQLException {
+        boolean acquired;
+        try {
+            acquired = partition.permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for connection", e);
+        }
+        if (!acquired) {
+            partition.recordTimeout();
+            throw new SQLTransientConnectionException(String.format(
+                "Bulkhead %s - connection is not available, request timed out after %dms",
+                partition.name, acquireTimeout.toMillis()));
+        }
+    }
+
+    private static Connection releasingOnClose(Connection connection, Semaphore permits) {
+        var released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(ConnectionBulkheads.class.getClassLoader(),
+            new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                    permits.release();
+                }
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        partitions.values().forEach(partition -> partition.bindTo(meterRegistry));
+    }
+
+    @FunctionalInterface
+    interface ConnectionSupplier {
+
+        Connection get() throws SQLException;
+    }
+
+    private static class Partition {
+
+        private final String name;
+        private final int maxConnections;
+        private final Semaphore permits;
+        private volatile Timer acquireTimer;
+        private volatile Counter timeoutCounter;
+
+        Partition(BulkheadPartition partition, int maxConnections) {
+            this.name = partition.name().toLowerCase().replace('_', '-');
+            this.maxConnections = maxConnections;
+            this.permits = new Semaphore(maxConnections, true);
+        }
+
+        void bindTo(MeterRegistry meterRegistry) {
+            gauge(meterRegistry, "active", "Connections in use",
+                () -> maxConnections - permits.availablePermits());
+            gauge(meterRegistry, "idle", "Connections which could be taken without waiting",
+                permits::availablePermits);
+            gauge(meterRegistry, "pending", "Threads waiting for connection", permits::getQueueLength);
+            gauge(meterRegistry, "max", "Max connections", () -> maxConnections);
+            acquireTimer = Timer.builder(METRIC_PREFIX + "acquire")
+                .description("Time to obtain connection, including waiting for free permit of partition")
+                .tag("partition", name)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+            timeoutCounter = Counter.builder(METRIC_PREFIX + "timeout")
+                .description("Requests for connection timed out while waiting for free permit of partition")
+                .tag("partition", name)
+                .register(meterRegistry);
+        }
+
+        private void gauge(MeterRegistry meterRegistry, String name, String description, Supplier<Number> value) {
+            Gauge.builder(METRIC_PREFIX + name, value)
+                .description(description)
+                .tag("partition", this.name)
+                .register(meterRegistry);
+        }
+
+        void recordAcquire(long nanos) {
+            if (acquireTimer != null) {
+                acquireTimer.record(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        void recordTimeout() {
+            if (timeoutCounter != null) {
+                timeoutCounter.increment();
+            }
+        }
+    }
+}
@@ -1,13 +1,49 @@
 package by.andd3dfx.templateapp.persistence.dao;
 
 import by.andd3dfx.templateapp.persistence.entities.Article;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface ArticleRepository extends CrudRepository<Article, Long> {
+public interface ArticleRepository extends CrudRepository<Article, Long>, ArticleRepositoryCustom {
 
     Slice<Article> findAll(Pageable pageable);
+
+    /**
+     * Persistence context is flushed before and cleared after bulk statements, so it doesn't hold stale entities.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Article a where a.id in :ids")
+    int deleteArticlesByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Article a where a.author = :author")
+    int deleteArticlesByAuthor(@Param("author") String author);
+
+    /**
+     * Tombstones of articles are created before their deletion, in the same transaction, for changes feed.
+     *
+     * @return amount of created tombstones
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("insert into ArticleTombstone (articleId, dateDeleted)"
+        + " select a.id, :dateDeleted from Article a where a.id in :ids")
+    int createTombstonesByIds(@Param("ids") Collection<Long> ids, @Param("dateDeleted") LocalDateTime dateDeleted);
+
+    @Modifying(flushAutomatically = true)
+    @Query("insert into ArticleTombstone (articleId, dateDeleted)"
+        + " select a.id, :dateDeleted from Article a where a.author = :author")
+    int createTombstonesByAuthor(@Param("author") String author, @Param("dateDeleted") LocalDateTime dateDeleted);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Article a set a.author = :newAuthor, a.dateUpdated = :dateUpdated where a.author = :author")
+    int updateArticlesAuthor(@Param("author") String author, @Param("newAuthor") String newAuthor,
+        @Param("dateUpdated") LocalDateTime dateUpdated);
 }
@@ -0,0 +1,114 @@
+package by.andd3dfx.templateapp.persistence.dao;
+
+import by.andd3dfx.templateapp.dto.ArticleChangeDto;
+import by.andd3dfx.templateapp.dto.ArticleSummaryDto;
+import by.andd3dfx.templateapp.persistence.entities.Article;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+public interface ArticleRepositoryCustom {
+
+    /**
+     * Keyset (seek) pagination: rows following (lastValue, lastId) in order of (attribute, id),
+     * so the cost doesn't depend on how deep the page is. Text of articles isn't selected.
+     *
+     * @param author    author of articles, null for articles of all authors
+     * @param attribute sort attribute
+     * @param direction sort direction, applied to both attribute and id
+     * @param lastValue value of sort attribute of the last row of previous page, null for the first page
+     * @param lastId    id of the last row of previous page, null for the first page
+     * @param limit     max amount of rows
+     */
+    List<ArticleSummaryDto> findNextPage(String author, String attribute, Sort.Direction direction,
+        Comparable<?> lastValue, Long lastId, int limit);
+
+    /**
+     * Full-text search in title, summary and text of articles, the most relevant first. Text isn't selected.
+     * <p>
+     * Keyset pagination: rows following (lastRank, lastId) in order of (rank desc, id).
+     *
+     * @param query    search query, in web search syntax (`"quoted phrase"`, `or`, `-excluded`) for PostgreSQL
+     * @param lastRank rank of the last row of previous page, null for the first page
+     * @param lastId   id of the last row of previous page, null for the first page
+     * @param limit    max amount of rows
+     */
+    List<ArticleSummaryDto> search(String query, Float lastRank, Long lastId, int limit);
+
+    /**
+     * Fuzzy lookup by title and author: articles with word similarity (by trigrams) of title or author to query
+     * not less than threshold, the most similar first. Text isn't selected.
+     * <p>
+     * Should be called in transaction.
+     *
+     * @param query     words of title or author, possibly partial or misspelled
+     * @param threshold min word similarity, from 0 to 1
+     * @param limit     max amount of rows
+     */
+    List<ArticleSummaryDto> lookup(String query, float threshold, int limit);
+
+    /**
+     * Changes feed: updated articles and tombstones of deleted ones, both following (lastDate, lastId)
+     * in order of (date of change, id) and changed not later than `until`. Text of articles isn't selected.
+     *
+     * @param lastDate date of change of the last row of previous page, null to start from the beginning
+     * @param lastId   id of the last row of previous page, null to start from the beginning
+     * @param until    max date of change
+     * @param limit    max amount of rows
+     */
+    List<ArticleChangeDto> findChanges(LocalDateTime lastDate, Long lastId, LocalDateTime until, int limit);
+
+    /**
+     * All articles in order of id, fetched from DB by chunks of `fetchSize` rows through open cursor.
+     * <p>
+     * Should be consumed and closed in transaction. Articles are detached right after reading,
+     * so persistence context doesn't grow while stream is consumed.
+     */
+    Stream<Article> streamAll(int fetchSize);
+
+    /**
+     * Persist new articles, flushing them to DB by JDBC batches.
+     * <p>
+     * Persistence context is cleared after each batch to keep memory and dirty checking cost flat,
+     * so returned articles are detached.
+     */
+    List<Article> persistAll(List<Article> articles);
+
+    /**
+     * Insert new articles as they come from stream, keeping in memory only small chunk of them:
+     * by `COPY FROM STDIN` in PostgreSQL, by JDBC batches of persisted articles otherwise.
+     * <p>
+     * Ids are taken from `article_id_seq` by the same generator as ids of persisted articles.
+     *
+     * @return amount of inserted articles
+     */
+    long insertAll(Stream<Article> articles);
+
+    /**
+     * Page of articles without text: only columns of {@link ArticleSummaryDto} are selected.
+     * Total amount of articles is counted unless it's known from the page itself.
+     */
+    Page<ArticleSummaryDto> findAllSummaries(Pageable pageable);
+
+    /**
+     * Update given attributes (and `dateUpdated`) of article by single statement, without loading of article.
+     * Second-level cache and query cache are invalidated for this article only.
+     *
+     * @param id     id of article
+     * @param values new values of attributes by names of attributes
+     * @return amount of updated rows: 0 when article is absent
+     */
+    int updateFields(Long id, Map<String, Object> values);
+
+    /**
+     * In contrast with {@link org.springframework.data.repository.CrudRepository#deleteById}, doesn't load article
+     * before removal. Second-level cache and query cache are invalidated for this article only.
+     *
+     * @return amount of deleted rows: 0 when article is absent
+     */
+    int deleteArticleById(Long id);
+}
@@ -0,0 +1,648 @@
+package by.andd3dfx.templateapp.persistence.dao;
+
+import by.andd3dfx.templateapp.dto.ArticleChangeDto;
+import by.andd3dfx.templateapp.dto.ArticleSummaryDto;
+import by.andd3dfx.templateapp.persistence.entities.Article;
+import by.andd3dfx.templateapp.persistence.entities.ArticleTombstone;
+import by.andd3dfx.templateapp.util.TrigramIndex;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.ParameterExpression;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import org.hibernate.CacheMode;
+import org.hibernate.action.internal.BulkOperationCleanupAction;
+import org.hibernate.annotations.QueryHints;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+public class ArticleRepositoryCustomImpl implements ArticleRepositoryCustom {
+
+    /**
+     * Query is parsed by both dictionaries of `search_vector` column, see `V6__Add_search_vector.sql`.
+     */
+    private static final String SEARCH_SQL = "select * from ("
+        + "select a.id, a.title, a.summary, a.author, a.date_created, a.date_updated,"
+        + " ts_rank(a.search_vector, q.query) as rank"
+        + " from articles a,"
+        + " (select websearch_to_tsquery('russian', :query) || websearch_to_tsquery('simple', :query) as query) q"
+        + " where a.search_vector @@ q.query"
+        + ") found";
+    private static final String SEARCH_AFTER_SQL = " where found.rank < :lastRank"
+        + " or (found.rank = :lastRank and found.id > :lastId)";
+    private static final String SEARCH_ORDER_SQL = " order by found.rank desc, found.id";
+
+    private static final String LOOKUP_SQL = "select a.id, a.title, a.summary, a.author, a.date_created, a.date_updated,"
+        + " greatest(word_similarity(:query, a.title), word_similarity(:query, a.author)) as rank"
+        + " from articles a"
+        + " where :query <% a.title or :query <% a.author"
+        + " order by rank desc, a.id";
+
+    private static final String[] ARTICLES_QUERY_SPACES = {"articles"};
+
+    private static final String COPY_SQL = "copy articles (id, title, summary, text, author, date_created, date_updated)"
+        + " from stdin";
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    // Ids are generated between `COPY` statements: connection can't run other statements during `COPY`
+    private static final int COPY_CHUNK_SIZE = 1000;
+
+    // Ranks of substring search, used when full-text search isn't available: match in title, summary or text
+    private static final float TITLE_RANK = 1.0f;
+    private static final float SUMMARY_RANK = 0.4f;
+    private static final float TEXT_RANK = 0.2f;
+    private static final char LIKE_ESCAPE = '\\';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    private volatile VersionedTrigramIndex trigramIndex;
+
+    /**
+     * Uses `attribute >= lastValue and (attribute > lastValue or id > lastId)` form instead of row value comparison,
+     * so the first condition is used as index condition on (attribute, id) index.
+     * Key values are bound as parameters (not inlined as literals), so SQL is the same for all pages.
+     * Articles of author sorted by date of creation are read by index on (author, date_created, id).
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Override
+    public List<ArticleSummaryDto> findNextPage(String author, String attribute, Sort.Direction direction,
+        Comparable lastValue, Long lastId, int limit) {
+        var criteriaBuilder = entityManager.getCriteriaBuilder();
+        var query = criteriaBuilder.createTupleQuery();
+        var root = query.from(Article.class);
+        query.multiselect(summarySelections(root));
+        Path<Comparable> sortPath = root.get(attribute);
+        Path<Long> idPath = root.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (author != null) {
+            predicates.add(criteriaBuilder.equal(root.get("author"), author));
+        }
+        ParameterExpression<Comparable> valueParam = null;
+        ParameterExpression<Long> idParam = null;
+        if (lastValue != null) {
+            valueParam = criteriaBuilder.parameter((Class<Comparable>) lastValue.getClass());
+            idParam = criteriaBuilder.parameter(Long.class);
+            predicates.add(direction.isAscending()
+                ? criteriaBuilder.and(
+                    criteriaBuilder.greaterThanOrEqualTo(sortPath, valueParam),
+                    criteriaBuilder.or(
+                        criteriaBuilder.greaterThan(sortPath, valueParam),
+                        criteriaBuilder.greaterThan(idPath, idParam)))
+                : criteriaBuilder.and(
+                    criteriaBuilder.lessThanOrEqualTo(sortPath, valueParam),
+                    criteriaBuilder.or(
+                        criteriaBuilder.lessThan(sortPath, valueParam),
+                        criteriaBuilder.lessThan(idPath, idParam))));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(direction.isAscending()
+            ? List.of(criteriaBuilder.asc(sortPath), criteriaBuilder.asc(idPath))
+            : List.of(criteriaBuilder.desc(sortPath), criteriaBuilder.desc(idPath)));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query)
+            .setMaxResults(limit);
+        if (lastValue != null) {
+            typedQuery.setParameter(valueParam, lastValue)
+                .setParameter(idParam, lastId);
+        }
+        return toSummaries(typedQuery.getResultList());
+    }
+
+    /**
+     * Uses GIN index on `search_vector` column in PostgreSQL. Other DBs (H2) have no full-text search,
+     * so case-insensitive substring search is used there instead, which scans the whole table.
+     */
+    @Override
+    public List<ArticleSummaryDto> search(String query, Float lastRank, Long lastId, int limit) {
+        if (isPostgreSQL()) {
+            return fullTextSearch(query, lastRank, lastId, limit);
+        }
+        return substringSearch(query, lastRank, lastId, limit);
+    }
+
+    private List<ArticleSummaryDto> fullTextSearch(String query, Float lastRank, Long lastId, int limit) {
+        var sql = SEARCH_SQL + (lastRank != null ? SEARCH_AFTER_SQL : "") + SEARCH_ORDER_SQL;
+        var nativeQuery = entityManager.createNativeQuery(sql, Tuple.class)
+            .setParameter("query", query)
+            .setMaxResults(limit);
+        if (lastRank != null) {
+            nativeQuery.setParameter("lastRank", lastRank)
+                .setParameter("lastId", lastId);
+        }
+
+        List<Tuple> tuples = nativeQuery.getResultList();
+        return toRankedSummaries(tuples);
+    }
+
+    private List<ArticleSummaryDto> substringSearch(String query, Float lastRank, Long lastId, int limit) {
+        var criteriaBuilder = entityManager.getCriteriaBuilder();
+        var criteriaQuery = criteriaBuilder.createTupleQuery();
+        var root = criteriaQuery.from(Article.class);
+        var pattern = "%" + escapeLike(query.toLowerCase()) + "%";
+        var inTitle = criteriaBuilder.like(criteriaBuilder.lower(root.get("title")), pattern, LIKE_ESCAPE);
+        var inSummary = criteriaBuilder.like(criteriaBuilder.lower(root.get("summary")), pattern, LIKE_ESCAPE);
+        var inText = criteriaBuilder.like(criteriaBuilder.lower(root.get("text")), pattern, LIKE_ESCAPE);
+        Expression<Float> rank = criteriaBuilder.<Float>selectCase()
+            .when(inTitle, TITLE_RANK)
+            .when(inSummary, SUMMARY_RANK)
+            .otherwise(TEXT_RANK);
+        Path<Long> idPath = root.get("id");
+
+        var selections = new ArrayList<>(summarySelections(root));
+        selections.add(rank.alias("rank"));
+        criteriaQuery.multiselect(selections);
+        var found = criteriaBuilder.or(inTitle, inSummary, inText);
+        criteriaQuery.where(lastRank == null ? found : criteriaBuilder.and(found,
+            criteriaBuilder.or(
+                criteriaBuilder.lessThan(rank, lastRank),
+                criteriaBuilder.and(
+                    criteriaBuilder.equal(rank, lastRank),
+                    criteriaBuilder.greaterThan(idPath, lastId)))));
+        criteriaQuery.orderBy(criteriaBuilder.desc(rank), criteriaBuilder.asc(idPath));
+
+        List<Tuple> tuples = entityManager.createQuery(criteriaQuery)
+            .setMaxResults(limit)
+            .getResultList();
+        List<ArticleSummaryDto> summaries = toSummaries(tuples);
+        for (int i = 0; i < summaries.size(); i++) {
+            summaries.get(i).setRank(tuples.get(i).get("rank", Float.class));
+        }
+        return summaries;
+    }
+
+    /**
+     * Uses trigram GIN indexes on `title` and `author` columns in PostgreSQL: threshold is set for current transaction
+     * as `pg_trgm.word_similarity_threshold`, which is used by `<%` operator.
+     * Other DBs (H2) have no trigram indexes, so in-memory {@link TrigramIndex} is used there instead.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public List<ArticleSummaryDto> lookup(String query, float threshold, int limit) {
+        if (!isPostgreSQL()) {
+            return inMemoryLookup(query, threshold, limit);
+        }
+        entityManager.createNativeQuery("select set_config('pg_trgm.word_similarity_threshold', :threshold, true)")
+            .setParameter("threshold", Float.toString(threshold))
+            .getSingleResult();
+
+        List<Tuple> tuples = entityManager.createNativeQuery(LOOKUP_SQL, Tuple.class)
+            .setParameter("query", query)
+            .setMaxResults(limit)
+            .getResultList();
+        return toRankedSummaries(tuples);
+    }
+
+    private List<ArticleSummaryDto> inMemoryLookup(String query, float threshold, int limit) {
+        List<TrigramIndex.Match> matches = currentTrigramIndex().lookup(query, threshold, limit);
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+
+        var criteriaBuilder = entityManager.getCriteriaBuilder();
+        var criteriaQuery = criteriaBuilder.createTupleQuery();
+        var root = criteriaQuery.from(Article.class);
+        criteriaQuery.multiselect(summarySelections(root));
+        criteriaQuery.where(root.get("id").in(matches.stream()
+            .map(TrigramIndex.Match::getId)
+            .collect(Collectors.toList())));
+        Map<Long, ArticleSummaryDto> summaries = toSummaries(entityManager.createQuery(criteriaQuery).getResultList())
+            .stream()
+            .collect(Collectors.toMap(ArticleSummaryDto::getId, Function.identity()));
+
+        // Article could be removed after index was checked
+        return matches.stream()
+            .filter(match -> summaries.containsKey(match.getId()))
+            .map(match -> {
+                var summary = summaries.get(match.getId());
+                summary.setRank(match.getSimilarity());
+                return summary;
+            })
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Index is rebuilt when amount of articles or max date of update changes: any write of articles changes one of them.
+     */
+    private TrigramIndex currentTrigramIndex() {
+        var criteriaBuilder = entityManager.getCriteriaBuilder();
+        var versionQuery = criteriaBuilder.createTupleQuery();
+        var versionRoot = versionQuery.from(Article.class);
+        versionQuery.multiselect(criteriaBuilder.count(versionRoot),
+            criteriaBuilder.greatest(versionRoot.<LocalDateTime>get("dateUpdated")));
+        Tuple versionTuple = entityManager.createQuery(versionQuery).getSingleResult();
+        List<Object> version = Arrays.asList(versionTuple.get(0), versionTuple.get(1));
+
+        var current = trigramIndex;
+        if (current != null && current.getVersion().equals(version)) {
+            return current.getIndex();
+        }
+
+        var textsQuery = criteriaBuilder.createTupleQuery();
+        var textsRoot = textsQuery.from(Article.class);
+        textsQuery.multiselect(textsRoot.get("id"), textsRoot.get("title"), textsRoot.get("author"));
+        Map<Long, List<String>> textsById = entityManager.createQuery(textsQuery).getResultList().stream()
+            .collect(Collectors.toMap(tuple -> tuple.get(0, Long.class),
+                tuple -> List.of(tuple.get(1, String.class), tuple.get(2, String.class))));
+        var index = new TrigramIndex(textsById);
+        trigramIndex = new VersionedTrigramIndex(version, index);
+        return index;
+    }
+
+    /**
+     * Total amount of articles is read by separate count query, which {@link PageableExecutionUtils} skips
+     * when page isn't full (and isn't beyond the last page): then total is its offset plus its size.
+     * Results of both queries are kept in query cache until any change of articles.
+     */
+    @Override
+    public Page<ArticleSummaryDto> findAllSummaries(Pageable pageable) {
+        var criteriaBuilder = entityManager.getCriteriaBuilder();
+        var query = criteriaBuilder.createTupleQuery();
+        var root = query.from(Article.class);
+        query.multiselect(summarySelections(root));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query)
+            .setHint(QueryHints.CACHEABLE, true);
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(toSummaries(typedQuery.getResultList()));
+        }
+        List<ArticleSummaryDto> content = toSummaries(typedQuery
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize())
+            .getResultList());
+        return PageableExecutionUtils.getPage(content, pageable, this::countAll);
+    }
+
+    private long countAll() {
+        var criteriaBuilder = entityManager.getCriteriaBuilder();
+        var query = criteriaBuilder.createQuery(Long.class);
+        query.select(criteriaBuilder.count(query.from(Article.class)));
+        return entityManager.createQuery(query)
+            .setHint(QueryHints.CACHEABLE, true)
+            .getSingleResult();
+    }
+
+    /**
+     * Read-only entities (no snapshots for dirty checking), which bypass second-level cache.
+     * PostgreSQL JDBC driver honors fetch size only when autocommit is off, i.e. in transaction.
+     */
+    @Override
+    public Stream<Article> streamAll(int fetchSize) {
+        return entityManager.createQuery("select a from Article a order by a.id", Article.class)
+            .setHint(QueryHints.FETCH_SIZE, fetchSize)
+            .setHint(QueryHints.READ_ONLY, true)
+            .setHint(QueryHints.CACHE_MODE, CacheMode.IGNORE)
+            .getResultStream()
+            .peek(entityManager::detach);
+    }
+
+    @Transactional
+    @Override
+    public List<Article> persistAll(List<Article> articles) {
+        for (int i = 0; i < articles.size(); i++) {
+            entityManager.persist(articles.get(i));
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        return articles;
+    }
+
+    @Transactional
+    @Override
+    public long insertAll(Stream<Article> articles) {
+        if (!isPostgreSQL()) {
+            return persistAll(articles);
+        }
+        var session = entityManager.unwrap(SessionImplementor.class);
+        IdentifierGenerator idGenerator = session.getFactory().getMetamodel()
+            .entityPersister(Article.class).getIdentifierGenerator();
+        // Invalidate query cache of articles, the same as Hibernate does for native bulk statements
+        session.getActionQueue().addAction(new BulkOperationCleanupAction(session, Set.of("articles")));
+
+        List<Article> chunk = new ArrayList<>(COPY_CHUNK_SIZE);
+        long count = 0;
+        for (var iterator = articles.iterator(); iterator.hasNext(); ) {
+            Article article = iterator.next();
+            article.setId((Long) idGenerator.generate(session, article));
+            article.prePersistOrUpdate();
+            chunk.add(article);
+            if (chunk.size() == COPY_CHUNK_SIZE) {
+                count += copy(session, chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            count += copy(session, chunk);
+        }
+        return count;
+    }
+
+    private static long copy(SessionImplementor session, List<Article> articles) {
+        return session.doReturningWork(connection -> {
+            var copyStream = new PGCopyOutputStream(connection.unwrap(PGConnection.class), COPY_SQL,
+                COPY_BUFFER_SIZE);
+            try {
+                var writer = new BufferedWriter(new OutputStreamWriter(copyStream, StandardCharsets.UTF_8));
+                for (Article article : articles) {
+                    writeCopyRow(writer, article);
+                }
+                writer.flush();
+                return copyStream.endCopy();
+            } catch (IOException e) {
+                throw new SQLException("Copy of articles failed", e);
+            } finally {
+                if (copyStream.isActive()) {
+                    copyStream.cancelCopy();
+                }
+            }
+        });
+    }
+
+    private long persistAll(Stream<Article> articles) {
+        long count = 0;
+        for (var iterator = articles.iterator(); iterator.hasNext(); ) {
+            entityManager.persist(iterator.next());
+            if (++count % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return count;
+    }
+
+    /**
+     * Row of text format of `COPY`: tab-separated values, `\N` for null.
+     */
+    private static void writeCopyRow(Writer writer, Article article) throws IOException {
+        writer.write(article.getId().toString());
+        for (Object value : new Object[]{article.getTitle(), article.getSummary(), article.getText(),
+            article.getAuthor(), article.getDateCreated(), article.getDateUpdated()}) {
+            writer.write('\t');
+            writer.write(value != null ? escapeCopyValue(value.toString()) : "\\N");
+        }
+        writer.write('\n');
+    }
+
+    private static String escapeCopyValue(String value) {
+        return value.replace("\\", "\\\\")
+            .replace("\t", "\\t")
+            .replace("\n", "\\n")
+            .replace("\r", "\\r");
+    }
+
+    /**
+     * Persistence context is flushed before and cleared after update, so it doesn't hold stale article.
+     */
+    @Transactional
+    @Override
+    public int updateFields(Long id, Map<String, Object> values) {
+        var persister = articlePersister();
+        List<String> columns = new ArrayList<>();
+        List<Object> parameters = new ArrayList<>();
+        values.forEach((attribute, value) -> {
+            columns.add(persister.getPropertyColumnNames(attribute)[0]);
+            parameters.add(value);
+        });
+        columns.add(persister.getPropertyColumnNames("dateUpdated")[0]);
+        parameters.add(Timestamp.valueOf(LocalDateTime.now()));
+        parameters.add(id);
+
+        var sql = "update " + persister.getTableName()
+            + " set " + columns.stream().map(column -> column + " = ?").collect(Collectors.joining(", "))
+            + " where " + persister.getIdentifierColumnNames()[0] + " = ?";
+        return executeForArticle(id, sql, parameters);
+    }
+
+    @Transactional
+    @Override
+    public int deleteArticleById(Long id) {
+        var persister = articlePersister();
+        var sql = "delete from " + persister.getTableName()
+            + " where " + persister.getIdentifierColumnNames()[0] + " = ?";
+        return executeForArticle(id, sql, List.of(id));
+    }
+
+    /**
+     * Runs statement on single article by JDBC: Hibernate treats any bulk statement (HQL, criteria or native)
+     * on `articles` table as change of all articles and empties the whole region of second-level cache.
+     * Instead, only this article is evicted, and query cache of `articles` is invalidated: both before statement
+     * and after transaction completion, so concurrent transaction can't put stale article or query result back.
+     */
+    private int executeForArticle(Long id, String sql, List<Object> parameters) {
+        var session = entityManager.unwrap(SessionImplementor.class);
+        entityManager.flush();
+
+        var cache = session.getFactory().getCache();
+        boolean queryCacheEnabled = session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled();
+        cache.evict(Article.class, id);
+        if (queryCacheEnabled) {
+            cache.getTimestampsCache().preInvalidate(ARTICLES_QUERY_SPACES, session);
+        }
+        session.getActionQueue().registerProcess((success, completedSession) -> {
+            cache.evict(Article.class, id);
+            if (queryCacheEnabled) {
+                cache.getTimestampsCache().invalidate(ARTICLES_QUERY_SPACES, completedSession);
+            }
+        });
+
+        int updated = session.doReturningWork(connection -> {
+            try (var statement = connection.prepareStatement(sql)) {
+                for (int i = 0; i < parameters.size(); i++) {
+                    statement.setObject(i + 1, parameters.get(i));
+                }
+                return statement.executeUpdate();
+            }
+        });
+        entityManager.clear();
+        return updated;
+    }
+
+    private AbstractEntityPersister articlePersister() {
+        return (AbstractEntityPersister) entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactoryImplementor.class).getMetamodel().entityPersister(Article.class);
+    }
+
+    /**
+     * Articles and tombstones are read by indexes on (date_updated, id) and (date_deleted, article_id)
+     * up to `limit` rows each, and then merged.
+     */
+    @Override
+    public List<ArticleChangeDto> findChanges(LocalDateTime lastDate, Long lastId, LocalDateTime until, int limit) {
+        var criteriaBuilder = entityManager.getCriteriaBuilder();
+
+        var articlesQuery = criteriaBuilder.createTupleQuery();
+        var article = articlesQuery.from(Article.class);
+        Path<LocalDateTime> dateUpdatedPath = article.get("dateUpdated");
+        Path<Long> idPath = article.get("id");
+        articlesQuery.multiselect(summarySelections(article))
+            .where(changedAfter(criteriaBuilder, dateUpdatedPath, idPath, lastDate != null))
+            .orderBy(criteriaBuilder.asc(dateUpdatedPath), criteriaBuilder.asc(idPath));
+        List<Tuple> tuples = bindChangedAfter(entityManager.createQuery(articlesQuery), lastDate, lastId, until)
+            .setMaxResults(limit)
+            .getResultList();
+
+        var tombstonesQuery = criteriaBuilder.createQuery(ArticleTombstone.class);
+        var tombstone = tombstonesQuery.from(ArticleTombstone.class);
+        Path<LocalDateTime> dateDeletedPath = tombstone.get("dateDeleted");
+        Path<Long> articleIdPath = tombstone.get("articleId");
+        tombstonesQuery.select(tombstone)
+            .where(changedAfter(criteriaBuilder, dateDeletedPath, articleIdPath, lastDate != null))
+            .orderBy(criteriaBuilder.asc(dateDeletedPath), criteriaBuilder.asc(articleIdPath));
+        List<ArticleTombstone> tombstones = bindChangedAfter(entityManager.createQuery(tombstonesQuery), lastDate,
+            lastId, until)
+            .setMaxResults(limit)
+            .getResultList();
+
+        List<ArticleChangeDto> changes = new ArrayList<>();
+        toSummaries(tuples).forEach(summary -> changes.add(ArticleChangeDto.builder()
+            .id(summary.getId())
+            .dateChanged(summary.getDateUpdated())
+            .article(summary)
+            .build()));
+        tombstones.forEach(deleted -> changes.add(ArticleChangeDto.builder()
+            .id(deleted.getArticleId())
+            .deleted(true)
+            .dateChanged(deleted.getDateDeleted())
+            .build()));
+        return changes.stream()
+            .sorted(Comparator.comparing(ArticleChangeDto::getDateChanged).thenComparing(ArticleChangeDto::getId))
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Same form of keyset condition as in {@link #findNextPage},
+     * with named parameters bound by {@link #bindChangedAfter}.
+     */
+    private static Predicate[] changedAfter(CriteriaBuilder criteriaBuilder, Path<LocalDateTime> datePath,
+        Path<Long> idPath, boolean hasLast) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(criteriaBuilder.lessThanOrEqualTo(datePath,
+            criteriaBuilder.parameter(LocalDateTime.class, "until")));
+        if (hasLast) {
+            var lastDate = criteriaBuilder.parameter(LocalDateTime.class, "lastDate");
+            predicates.add(criteriaBuilder.greaterThanOrEqualTo(datePath, lastDate));
+            predicates.add(criteriaBuilder.or(
+                criteriaBuilder.greaterThan(datePath, lastDate),
+                criteriaBuilder.greaterThan(idPath, criteriaBuilder.parameter(Long.class, "lastId"))));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    private static <T> TypedQuery<T> bindChangedAfter(TypedQuery<T> query, LocalDateTime lastDate, Long lastId,
+        LocalDateTime until) {
+        query.setParameter("until", until);
+        if (lastDate != null) {
+            query.setParameter("lastDate", lastDate)
+                .setParameter("lastId", lastId);
+        }
+        return query;
+    }
+
+    private boolean isPostgreSQL() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+            .getJdbcServices().getDialect() instanceof PostgreSQL81Dialect;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+    }
+
+    /**
+     * Constructor expression (`select new ...`) can't be used instead: Hibernate fails to parse package name
+     * starting with `by`, which is a keyword of HQL.
+     */
+    private static List<Selection<?>> summarySelections(Root<Article> root) {
+        return List.of(
+            root.get("id").alias("id"),
+            root.get("title").alias("title"),
+            root.get("summary").alias("summary"),
+            root.get("author").alias("author"),
+            root.get("dateCreated").alias("dateCreated"),
+            root.get("dateUpdated").alias("dateUpdated"));
+    }
+
+    /**
+     * Rows of native queries: names of columns instead of attributes, JDBC types and `rank` column.
+     */
+    private static List<ArticleSummaryDto> toRankedSummaries(List<Tuple> tuples) {
+        return tuples.stream()
+            .map(tuple -> ArticleSummaryDto.builder()
+                .id(((Number) tuple.get("id")).longValue())
+                .title((String) tuple.get("title"))
+                .summary((String) tuple.get("summary"))
+                .author((String) tuple.get("author"))
+                .dateCreated(((Timestamp) tuple.get("date_created")).toLocalDateTime())
+                .dateUpdated(((Timestamp) tuple.get("date_updated")).toLocalDateTime())
+                .rank(((Number) tuple.get("rank")).floatValue())
+                .build())
+            .collect(Collectors.toList());
+    }
+
+    private static List<ArticleSummaryDto> toSummaries(List<Tuple> tuples) {
+        return tuples.stream()
+            .map(tuple -> ArticleSummaryDto.builder()
+                .id(tuple.get("id", Long.class))
+                .title(tuple.get("title", String.class))
+                .summary(tuple.get("summary", String.class))
+                .author(tuple.get("author", String.class))
+                .dateCreated(tuple.get("dateCreated", LocalDateTime.class))
+                .dateUpdated(tuple.get("dateUpdated", LocalDateTime.class))
+                .build())
+            .collect(Collectors.toList());
+    }
+
+    @lombok.Value
+    private static class VersionedTrigramIndex {
+
+        List<Object> version;
+        TrigramIndex index;
+    }
+}
@@ -1,6 +1,8 @@
 package by.andd3dfx.templateapp.persistence.entities;
 
+import by.andd3dfx.templateapp.configs.SecondLevelCacheConfig;
 import java.time.LocalDateTime;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
@@ -8,9 +10,13 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.PrePersist;
 import javax.persistence.PreUpdate;
-import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -22,11 +28,23 @@ import lombok.NoArgsConstructor;
 @Data
 @Entity
 @Table(name = "articles")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.ARTICLE_REGION)
 public class Article {
 
+    /**
+     * Pooled-lo optimizer: one `nextval` call reserves ids [value, value + 50) for inserts
+     * (sequence increment must be the same). In contrast with `pooled` optimizer, value is treated as the lowest id
+     * of block, so it's safe even when DB applies new increment from the next call only (H2).
+     */
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_id_seq")
-    @SequenceGenerator(name = "article_id_seq", sequenceName = "article_id_seq", allocationSize = 1)
+    @GenericGenerator(name = "article_id_seq", strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator",
+        parameters = {
+            @Parameter(name = "sequence_name", value = "article_id_seq"),
+            @Parameter(name = "increment_size", value = "50"),
+            @Parameter(name = "optimizer", value = "pooled-lo")
+        })
     @Column
     private Long id;
 
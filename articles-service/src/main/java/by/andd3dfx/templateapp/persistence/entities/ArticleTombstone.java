@@ -0,0 +1,30 @@
+package by.andd3dfx.templateapp.persistence.entities;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Trace of deleted article, so consumers of changes feed learn about its deletion.
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Entity
+@Table(name = "article_tombstones")
+public class ArticleTombstone {
+
+    @Id
+    @Column(name = "article_id")
+    private Long articleId;
+
+    @Column(name = "date_deleted")
+    private LocalDateTime dateDeleted;
+}
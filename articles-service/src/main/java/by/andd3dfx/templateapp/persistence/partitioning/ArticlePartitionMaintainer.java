@@ -0,0 +1,124 @@
+package by.andd3dfx.templateapp.persistence.partitioning;
+
+import by.andd3dfx.templateapp.configs.PartitioningProperties;
+import by.andd3dfx.templateapp.util.PeriodicTask;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.Set;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Creates monthly partitions of `articles` table (`articles_YYYY_MM`) for current and next months in advance,
+ * so there is always partition for new articles. Does nothing when table isn't partitioned (DBs other than PostgreSQL).
+ * <p>
+ * Partitions are checked at startup and then periodically. Several instances of service don't interfere:
+ * check is serialized by advisory lock.
+ */
+@Slf4j
+public class ArticlePartitionMaintainer implements SmartLifecycle {
+
+    static final String PARTITIONED_QUERY = "select relkind = 'p' from pg_class where oid = to_regclass('articles')";
+    static final String PARTITIONS_QUERY = "select c.relname from pg_inherits i join pg_class c on c.oid = i.inhrelid"
+        + " where i.inhparent = to_regclass('articles')";
+    static final String LOCK_QUERY = "select pg_advisory_xact_lock(hashtext('articles_partitions'))";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final DataSource dataSource;
+    private final int monthsAhead;
+    private final Duration lockTimeout;
+    private final Clock clock;
+    private final PeriodicTask checks;
+
+    public ArticlePartitionMaintainer(DataSource dataSource, PartitioningProperties properties, Clock clock) {
+        this.dataSource = dataSource;
+        this.monthsAhead = properties.getMonthsAhead();
+        this.lockTimeout = properties.getLockTimeout();
+        this.clock = clock;
+        this.checks = new PeriodicTask("partition-maintenance", this::createPartitions,
+            properties.getCheckInterval());
+    }
+
+    /**
+     * Creates missing partitions in single transaction. Failure is logged only: it's retried by the next check,
+     * which comes long before partition is needed.
+     */
+    void createPartitions() {
+        try (var connection = dataSource.getConnection()) {
+            if (!isPartitioned(connection)) {
+                return;
+            }
+            connection.setAutoCommit(false);
+            try (var statement = connection.createStatement()) {
+                statement.execute("set local lock_timeout = " + lockTimeout.toMillis());
+                statement.execute(LOCK_QUERY);
+                Set<String> partitions = findPartitions(connection);
+                YearMonth currentMonth = YearMonth.now(clock);
+                for (int i = 0; i <= monthsAhead; i++) {
+                    YearMonth month = currentMonth.plusMonths(i);
+                    String partition = partitionName(month);
+                    if (!partitions.contains(partition)) {
+                        statement.execute(String.format(
+                            "create table %s partition of articles for values from ('%s') to ('%s')",
+                            partition, month.atDay(1), month.plusMonths(1).atDay(1)));
+                        log.info("Partition {} of articles is created", partition);
+                    }
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.warn("Failed to create partitions of articles: {}", e.getMessage());
+        }
+    }
+
+    static String partitionName(YearMonth month) {
+        return "articles_" + month.format(PARTITION_SUFFIX);
+    }
+
+    private static boolean isPartitioned(Connection connection) throws SQLException {
+        if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+            return false;
+        }
+        try (var statement = connection.createStatement();
+            var resultSet = statement.executeQuery(PARTITIONED_QUERY)) {
+            return resultSet.next() && resultSet.getBoolean(1);
+        }
+    }
+
+    private static Set<String> findPartitions(Connection connection) throws SQLException {
+        Set<String> partitions = new HashSet<>();
+        try (var statement = connection.createStatement();
+            var resultSet = statement.executeQuery(PARTITIONS_QUERY)) {
+            while (resultSet.next()) {
+                partitions.add(resultSet.getString(1));
+            }
+        }
+        return partitions;
+    }
+
+    @Override
+    public void start() {
+        checks.start();
+    }
+
+    @Override
+    public void stop() {
+        checks.stop();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return checks.isRunning();
+    }
+}
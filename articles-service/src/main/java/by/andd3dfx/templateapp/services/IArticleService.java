@@ -1,23 +1,92 @@
 package by.andd3dfx.templateapp.services;
 
+import by.andd3dfx.templateapp.dto.ArticleAuthorUpdateDto;
+import by.andd3dfx.templateapp.dto.ArticleChangeDto;
 import by.andd3dfx.templateapp.dto.ArticleDto;
+import by.andd3dfx.templateapp.dto.ArticleSummaryDto;
 import by.andd3dfx.templateapp.dto.ArticleUpdateDto;
+import by.andd3dfx.templateapp.dto.BulkResultDto;
+import by.andd3dfx.templateapp.dto.ImportResultDto;
+import by.andd3dfx.templateapp.dto.KeysetPage;
+import by.andd3dfx.templateapp.dto.KeysetSort;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface IArticleService {
 
     ArticleDto create(ArticleDto articleDto);
 
+    /**
+     * Create all articles in single transaction.
+     */
+    List<ArticleDto> createAll(List<ArticleDto> articleDtos);
+
     ArticleDto get(Long id);
 
     void update(Long id, ArticleUpdateDto articleUpdateDto);
 
     void delete(Long id);
 
+    /**
+     * Bulk operations are executed as single statement, without loading of articles.
+     */
+    BulkResultDto deleteAll(List<Long> ids);
+
+    BulkResultDto deleteByAuthor(String author);
+
+    BulkResultDto updateAuthor(String author, ArticleAuthorUpdateDto articleAuthorUpdateDto);
+
     List<ArticleDto> getAll(Integer pageNo, Integer pageSize, String sortBy);
 
-    Slice<ArticleDto> getAll(Pageable pageable);
+    Slice<ArticleSummaryDto> getAll(Pageable pageable);
+
+    /**
+     * Keyset pagination: sort and direction are taken from cursor when it is present.
+     *
+     * @param author author of articles, null for articles of all authors
+     */
+    KeysetPage<ArticleSummaryDto> scroll(String author, KeysetSort sort, Sort.Direction direction, Integer size,
+        String cursor);
+
+    /**
+     * Changes feed: articles updated or deleted after `since`, the oldest change first,
+     * paginated by keyset pagination. Cursor takes precedence over `since` when it is present.
+     *
+     * @param since date & time of change known to consumer already, null to get all articles
+     */
+    KeysetPage<ArticleChangeDto> changes(LocalDateTime since, Integer size, String cursor);
+
+    /**
+     * Write all articles to output stream as NDJSON (one article per line), in order of id.
+     */
+    void export(OutputStream outputStream) throws IOException;
+
+    /**
+     * Import articles from NDJSON (one article per line) in single transaction.
+     * Invalid rows are skipped and reported, valid ones are imported.
+     */
+    ImportResultDto importNdjson(InputStream inputStream);
+
+    /**
+     * Import articles from CSV with header in single transaction.
+     * Invalid rows are skipped and reported, valid ones are imported.
+     */
+    ImportResultDto importCsv(InputStream inputStream);
+
+    /**
+     * Full-text search of articles, the most relevant first, paginated by keyset pagination.
+     */
+    KeysetPage<ArticleSummaryDto> search(String query, Integer size, String cursor);
+
+    /**
+     * Fuzzy lookup by title and author, tolerant to typos and partial words, the most similar first.
+     */
+    List<ArticleSummaryDto> lookup(String query, Float threshold, Integer limit);
 }
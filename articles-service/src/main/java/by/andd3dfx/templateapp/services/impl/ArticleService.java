@@ -1,15 +1,43 @@
 package by.andd3dfx.templateapp.services.impl;
 
+import by.andd3dfx.templateapp.dto.ArticleAuthorUpdateDto;
+import by.andd3dfx.templateapp.dto.ArticleChangeDto;
 import by.andd3dfx.templateapp.dto.ArticleDto;
+import by.andd3dfx.templateapp.dto.ArticleSummaryDto;
 import by.andd3dfx.templateapp.dto.ArticleUpdateDto;
+import by.andd3dfx.templateapp.dto.BulkResultDto;
+import by.andd3dfx.templateapp.dto.ImportErrorDto;
+import by.andd3dfx.templateapp.dto.ImportResultDto;
+import by.andd3dfx.templateapp.dto.KeysetPage;
+import by.andd3dfx.templateapp.dto.KeysetSort;
 import by.andd3dfx.templateapp.error.exception.ArticleNotFoundException;
 import by.andd3dfx.templateapp.mappers.ArticleMapper;
+import by.andd3dfx.templateapp.persistence.bulkhead.Bulkhead;
+import by.andd3dfx.templateapp.persistence.bulkhead.BulkheadPartition;
 import by.andd3dfx.templateapp.persistence.dao.ArticleRepository;
 import by.andd3dfx.templateapp.persistence.entities.Article;
 import by.andd3dfx.templateapp.services.IArticleService;
+import by.andd3dfx.templateapp.util.ArticleRowReader;
+import by.andd3dfx.templateapp.util.ArticleRowReader.Row;
+import by.andd3dfx.templateapp.util.KeysetCursor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -23,8 +51,25 @@ public class ArticleService implements IArticleService {
 
     private final ArticleRepository articleRepository;
     private final ArticleMapper articleMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    /**
+     * Changes younger than this aren't returned by changes feed yet: transaction which is still in progress
+     * (or not yet replicated to replica) could commit a change with earlier date, so it would be missed
+     * by consumer which already moved past that date.
+     */
+    @Value("${changes.settle-time:15s}")
+    private Duration changesSettleTime;
+
+    @Value("${export.fetch-size:1000}")
+    private int exportFetchSize;
+
+    @Value("${import.max-reported-errors:100}")
+    private int importMaxReportedErrors;
 
     @Transactional
+    @Bulkhead(BulkheadPartition.WRITE)
     @Override
     public ArticleDto create(ArticleDto articleDto) {
         Article entity = articleMapper.toArticle(articleDto);
@@ -32,7 +77,17 @@ public class ArticleService implements IArticleService {
         return articleMapper.toArticleDto(savedEntity);
     }
 
+    @Transactional
+    @Bulkhead(BulkheadPartition.WRITE)
+    @Override
+    public List<ArticleDto> createAll(List<ArticleDto> articleDtos) {
+        List<Article> entities = articleMapper.toArticleList(articleDtos);
+        List<Article> savedEntities = articleRepository.persistAll(entities);
+        return articleMapper.toArticleDtoList(savedEntities);
+    }
+
     @Transactional(readOnly = true)
+    @Bulkhead(BulkheadPartition.POINT_READ)
     @Override
     public ArticleDto get(Long id) {
         return articleRepository.findById(id)
@@ -41,27 +96,55 @@ public class ArticleService implements IArticleService {
     }
 
     @Transactional
+    @Bulkhead(BulkheadPartition.WRITE)
     @Override
     public void update(Long id, ArticleUpdateDto articleUpdateDto) {
-        articleRepository.findById(id)
-            .map(article -> {
-                articleMapper.toArticle(articleUpdateDto, article);
-                Article savedArticle = articleRepository.save(article);
-                return articleMapper.toArticleDto(savedArticle);
-            }).orElseThrow(() -> new ArticleNotFoundException(id));
+        var fields = toChangedFields(articleUpdateDto);
+        boolean found = fields.isEmpty()
+            ? articleRepository.existsById(id)
+            : articleRepository.updateFields(id, fields) > 0;
+        if (!found) {
+            throw new ArticleNotFoundException(id);
+        }
     }
 
     @Transactional
+    @Bulkhead(BulkheadPartition.WRITE)
     @Override
     public void delete(Long id) {
-        try {
-            articleRepository.deleteById(id);
-        } catch (EmptyResultDataAccessException ex) {
+        articleRepository.createTombstonesByIds(List.of(id), LocalDateTime.now());
+        if (articleRepository.deleteArticleById(id) == 0) {
             throw new ArticleNotFoundException(id);
         }
     }
 
+    @Transactional
+    @Bulkhead(BulkheadPartition.WRITE)
+    @Override
+    public BulkResultDto deleteAll(List<Long> ids) {
+        articleRepository.createTombstonesByIds(ids, LocalDateTime.now());
+        return new BulkResultDto(articleRepository.deleteArticlesByIds(ids));
+    }
+
+    @Transactional
+    @Bulkhead(BulkheadPartition.WRITE)
+    @Override
+    public BulkResultDto deleteByAuthor(String author) {
+        articleRepository.createTombstonesByAuthor(author, LocalDateTime.now());
+        return new BulkResultDto(articleRepository.deleteArticlesByAuthor(author));
+    }
+
+    @Transactional
+    @Bulkhead(BulkheadPartition.WRITE)
+    @Override
+    public BulkResultDto updateAuthor(String author, ArticleAuthorUpdateDto articleAuthorUpdateDto) {
+        int updated = articleRepository.updateArticlesAuthor(author, articleAuthorUpdateDto.getAuthor(),
+            LocalDateTime.now());
+        return new BulkResultDto(updated);
+    }
+
     @Transactional(readOnly = true)
+    @Bulkhead(BulkheadPartition.LIST_SCAN)
     @Override
     public List<ArticleDto> getAll(Integer pageNo, Integer pageSize, String sortBy) {
         Pageable pageRequest = PageRequest.of(pageNo, pageSize, Sort.by(sortBy));
@@ -70,9 +153,219 @@ public class ArticleService implements IArticleService {
     }
 
     @Transactional(readOnly = true)
+    @Bulkhead(BulkheadPartition.LIST_SCAN)
+    @Override
+    public Slice<ArticleSummaryDto> getAll(Pageable pageable) {
+        return articleRepository.findAllSummaries(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    @Bulkhead(BulkheadPartition.LIST_SCAN)
+    @Override
+    public KeysetPage<ArticleSummaryDto> scroll(String author, KeysetSort sort, Sort.Direction direction, Integer size,
+        String cursor) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size should be positive");
+        }
+        var after = cursor != null ? KeysetCursor.decode(cursor) : new KeysetCursor(sort, direction, null, null);
+        if (after.getSort() == KeysetSort.RANK) {
+            throw new IllegalArgumentException("Sort by rank is supported by search only");
+        }
+
+        // One extra row tells whether next page exists
+        List<ArticleSummaryDto> articles = articleRepository.findNextPage(author, after.getSort().getAttribute(),
+            after.getDirection(), after.getValue(), after.getId(), size + 1);
+        return toKeysetPage(articles, size, after);
+    }
+
+    @Transactional(readOnly = true)
+    @Bulkhead(BulkheadPartition.LIST_SCAN)
     @Override
-    public Slice<ArticleDto> getAll(Pageable pageable) {
-        Slice<Article> pagedResult = articleRepository.findAll(pageable);
-        return pagedResult.map(articleMapper::toArticleDto);
+    public KeysetPage<ArticleChangeDto> changes(LocalDateTime since, Integer size, String cursor) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size should be positive");
+        }
+        LocalDateTime lastDate = since;
+        // The greatest id, so changes made at `since` itself are skipped
+        Long lastId = Long.MAX_VALUE;
+        if (cursor != null) {
+            var after = KeysetCursor.decode(cursor);
+            if (after.getSort() != KeysetSort.DATE_UPDATED || after.getDirection() != Sort.Direction.ASC) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            lastDate = (LocalDateTime) after.getValue();
+            lastId = after.getId();
+        }
+
+        List<ArticleChangeDto> changes = articleRepository.findChanges(lastDate, lastId,
+            LocalDateTime.now().minus(changesSettleTime), size + 1);
+        boolean hasNext = changes.size() > size;
+        List<ArticleChangeDto> content = hasNext ? changes.subList(0, size) : changes;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ArticleChangeDto last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(KeysetSort.DATE_UPDATED, Sort.Direction.ASC, last.getDateChanged(),
+                last.getId()).encode();
+        }
+        return KeysetPage.<ArticleChangeDto>builder()
+            .content(content)
+            .size(size)
+            .nextCursor(nextCursor)
+            .build();
+    }
+
+    /**
+     * Articles are read from DB cursor while they are written, so heap use doesn't depend on amount of articles,
+     * and slow client slows down reading from DB instead of accumulating articles in memory.
+     * Output stream is flushed by full buffers, not after each article.
+     */
+    @Transactional(readOnly = true)
+    @Bulkhead(BulkheadPartition.LIST_SCAN)
+    @Override
+    public void export(OutputStream outputStream) throws IOException {
+        var writer = objectMapper.writerFor(ArticleDto.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream);
+            Stream<Article> articles = articleRepository.streamAll(exportFetchSize)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            for (var iterator = articles.iterator(); iterator.hasNext(); ) {
+                writer.writeValue(generator, articleMapper.toArticleDto(iterator.next()));
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    @Transactional
+    @Bulkhead(BulkheadPartition.WRITE)
+    @Override
+    public ImportResultDto importNdjson(InputStream inputStream) {
+        try (Stream<Row> rows = ArticleRowReader.readNdjson(inputStream, objectMapper)) {
+            return importRows(rows);
+        }
+    }
+
+    @Transactional
+    @Bulkhead(BulkheadPartition.WRITE)
+    @Override
+    public ImportResultDto importCsv(InputStream inputStream) {
+        try (Stream<Row> rows = ArticleRowReader.readCsv(inputStream)) {
+            return importRows(rows);
+        }
+    }
+
+    /**
+     * Rows are validated against constraints of {@link ArticleDto} and inserted while they are read,
+     * so only a few of them are kept in memory at once. Only the first errors are reported, the rest are counted.
+     * <p>
+     * Id and dates of exported articles are ignored: imported articles get new ones, the same as created articles
+     * (so date of creation is current and always falls into existing partition of articles).
+     */
+    private ImportResultDto importRows(Stream<Row> rows) {
+        var result = ImportResultDto.builder()
+            .errors(new ArrayList<>())
+            .build();
+        Stream<Article> articles = rows
+            .filter(row -> {
+                String error = row.getError() != null ? row.getError() : validate(withoutGenerated(row.getArticle()));
+                if (error != null) {
+                    result.setFailed(result.getFailed() + 1);
+                    if (result.getErrors().size() < importMaxReportedErrors) {
+                        result.getErrors().add(new ImportErrorDto(row.getNumber(), error));
+                    }
+                }
+                return error == null;
+            })
+            .map(row -> articleMapper.toArticle(row.getArticle()));
+        result.setImported(articleRepository.insertAll(articles));
+        return result;
+    }
+
+    private static ArticleDto withoutGenerated(ArticleDto articleDto) {
+        articleDto.setId(null);
+        articleDto.setDateCreated(null);
+        articleDto.setDateUpdated(null);
+        return articleDto;
+    }
+
+    /**
+     * PostgreSQL doesn't accept NUL characters in text, such row would fail the whole import.
+     */
+    private String validate(ArticleDto articleDto) {
+        var violations = validator.validate(articleDto);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+        }
+        boolean hasNul = Stream.of(articleDto.getTitle(), articleDto.getSummary(), articleDto.getText(),
+            articleDto.getAuthor()).anyMatch(value -> value != null && value.indexOf('\0') >= 0);
+        return hasNul ? "Values shouldn't contain NUL characters" : null;
+    }
+
+    @Transactional(readOnly = true)
+    @Bulkhead(BulkheadPartition.LIST_SCAN)
+    @Override
+    public KeysetPage<ArticleSummaryDto> search(String query, Integer size, String cursor) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size should be positive");
+        }
+        var after = cursor != null
+            ? KeysetCursor.decode(cursor)
+            : new KeysetCursor(KeysetSort.RANK, Sort.Direction.DESC, null, null);
+        if (after.getSort() != KeysetSort.RANK) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+
+        List<ArticleSummaryDto> articles = articleRepository.search(query, (Float) after.getValue(), after.getId(),
+            size + 1);
+        return toKeysetPage(articles, size, after);
+    }
+
+    @Transactional(readOnly = true)
+    @Bulkhead(BulkheadPartition.LIST_SCAN)
+    @Override
+    public List<ArticleSummaryDto> lookup(String query, Float threshold, Integer limit) {
+        return articleRepository.lookup(query, threshold, limit);
+    }
+
+    /**
+     * Page of the first `size` articles, with cursor to the next page when one more article was read.
+     */
+    private static KeysetPage<ArticleSummaryDto> toKeysetPage(List<ArticleSummaryDto> articles, int size,
+        KeysetCursor after) {
+        boolean hasNext = articles.size() > size;
+        List<ArticleSummaryDto> content = hasNext ? articles.subList(0, size) : articles;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ArticleSummaryDto last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(after.getSort(), after.getDirection(), after.getSort().valueOf(last),
+                last.getId()).encode();
+        }
+        return KeysetPage.<ArticleSummaryDto>builder()
+            .content(content)
+            .size(size)
+            .nextCursor(nextCursor)
+            .build();
+    }
+
+    /**
+     * Populated fields of DTO by names of attributes of {@link Article}; removed summary is mapped to `null`.
+     */
+    private static Map<String, Object> toChangedFields(ArticleUpdateDto articleUpdateDto) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        if (articleUpdateDto.getTitle() != null) {
+            fields.put("title", articleUpdateDto.getTitle());
+        }
+        if (articleUpdateDto.getSummary() != null) {
+            fields.put("summary", articleUpdateDto.getSummary().orElse(null));
+        }
+        if (articleUpdateDto.getText() != null) {
+            fields.put("text", articleUpdateDto.getText());
+        }
+        return fields;
     }
 }
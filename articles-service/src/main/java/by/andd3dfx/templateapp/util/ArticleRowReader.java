@@ -0,0 +1,182 @@
+package by.andd3dfx.templateapp.util;
+
+import by.andd3dfx.templateapp.dto.ArticleDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.Value;
+
+/**
+ * Reads articles from NDJSON or CSV input row by row, so input of any size takes constant memory.
+ * <p>
+ * Row which couldn't be parsed is returned with error instead of article, and reading goes on with the next row.
+ * Streams should be closed to close input.
+ */
+public final class ArticleRowReader {
+
+    /**
+     * Columns are named after properties of {@link ArticleDto} and are taken from header (the first line),
+     * empty values are treated as absent ones.
+     */
+    private static final ObjectReader CSV_READER = new CsvMapper()
+        .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+        .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        .registerModule(new JavaTimeModule())
+        .readerFor(ArticleDto.class)
+        .with(CsvSchema.emptySchema().withHeader());
+
+    private ArticleRowReader() {
+    }
+
+    /**
+     * Each non-blank line of UTF-8 input is parsed separately, so malformed line doesn't affect the next ones.
+     */
+    public static Stream<Row> readNdjson(InputStream inputStream, ObjectMapper objectMapper) {
+        var reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        var objectReader = objectMapper.readerFor(ArticleDto.class);
+        var lineNumber = new AtomicLong();
+        return reader.lines()
+            .map(line -> new NumberedLine(lineNumber.incrementAndGet(), line))
+            .filter(numberedLine -> !numberedLine.getLine().isBlank())
+            .map(numberedLine -> {
+                try {
+                    return Row.of(numberedLine.getNumber(), objectReader.readValue(numberedLine.getLine()));
+                } catch (JsonProcessingException e) {
+                    return Row.failed(numberedLine.getNumber(), e.getOriginalMessage());
+                }
+            })
+            .onClose(() -> close(reader));
+    }
+
+    /**
+     * Quoted values could span several lines. Malformed quoting makes the rest of input unreadable,
+     * so it's reported as error of the last row.
+     */
+    public static Stream<Row> readCsv(InputStream inputStream) {
+        MappingIterator<ArticleDto> iterator;
+        try {
+            iterator = CSV_READER.readValues(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            return Stream.of(Row.failed(0, errorMessage(e)));
+        }
+        var csvRows = new CsvRowIterator(iterator);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(csvRows, Spliterator.ORDERED), false)
+            .onClose(() -> close(iterator));
+    }
+
+    private static String errorMessage(IOException e) {
+        return e instanceof JsonProcessingException
+            ? ((JsonProcessingException) e).getOriginalMessage()
+            : e.getMessage();
+    }
+
+    private static void close(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Value
+    public static class Row {
+
+        long number;
+        ArticleDto article;
+        String error;
+
+        static Row of(long number, ArticleDto article) {
+            return new Row(number, article, null);
+        }
+
+        static Row failed(long number, String error) {
+            return new Row(number, null, error);
+        }
+    }
+
+    @Value
+    private static class NumberedLine {
+
+        long number;
+        String line;
+    }
+
+    /**
+     * After failed row {@link MappingIterator} skips the rest of that row and continues with the next one.
+     */
+    private static class CsvRowIterator implements Iterator<Row> {
+
+        private final MappingIterator<ArticleDto> iterator;
+        private long rowNumber;
+        private boolean lastFailed;
+        private boolean finished;
+        private Row next;
+
+        CsvRowIterator(MappingIterator<ArticleDto> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !finished) {
+                next = readNext();
+            }
+            return next != null;
+        }
+
+        @Override
+        public Row next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Row row = next;
+            next = null;
+            return row;
+        }
+
+        private Row readNext() {
+            try {
+                if (!iterator.hasNextValue()) {
+                    finished = true;
+                    return null;
+                }
+            } catch (IOException e) {
+                // Input is unreadable from here on, error is reported once
+                finished = true;
+                return lastFailed ? null : Row.failed(rowNumber + 1, errorMessage(e));
+            }
+
+            rowNumber++;
+            try {
+                Row row = Row.of(rowNumber, iterator.nextValue());
+                lastFailed = false;
+                return row;
+            } catch (IOException e) {
+                lastFailed = true;
+                return Row.failed(rowNumber, errorMessage(e));
+            }
+        }
+    }
+}
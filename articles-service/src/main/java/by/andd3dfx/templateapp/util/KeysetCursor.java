@@ -0,0 +1,39 @@
+package by.andd3dfx.templateapp.util;
+
+import by.andd3dfx.templateapp.dto.KeysetSort;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.Value;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Continuation token of keyset pagination: sort key, direction and key (sort value, id) of the last returned row.
+ * <p>
+ * Encoded as Base64 (URL-safe) to be opaque for clients.
+ */
+@Value
+public class KeysetCursor {
+
+    private static final String SEPARATOR = ":";
+
+    KeysetSort sort;
+    Sort.Direction direction;
+    Comparable<?> value;
+    Long id;
+
+    public String encode() {
+        var token = String.join(SEPARATOR, sort.name(), direction.name(), id.toString(), value.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            var token = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var parts = token.split(SEPARATOR, 4);
+            var sort = KeysetSort.valueOf(parts[0]);
+            return new KeysetCursor(sort, Sort.Direction.valueOf(parts[1]), sort.parse(parts[3]), Long.valueOf(parts[2]));
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
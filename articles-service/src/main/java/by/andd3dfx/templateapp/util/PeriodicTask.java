@@ -0,0 +1,48 @@
+package by.andd3dfx.templateapp.util;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs task on dedicated daemon thread: right after start and then with fixed delay between runs.
+ * Intended to back {@link org.springframework.context.SmartLifecycle} of beans with periodic checks.
+ */
+public class PeriodicTask {
+
+    private final String threadName;
+    private final Runnable task;
+    private final Duration delay;
+    private volatile ScheduledExecutorService scheduler;
+
+    public PeriodicTask(String threadName, Runnable task, Duration delay) {
+        this.threadName = threadName;
+        this.task = task;
+        this.delay = delay;
+    }
+
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        var executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(task, 0, delay.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler = executor;
+    }
+
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+}
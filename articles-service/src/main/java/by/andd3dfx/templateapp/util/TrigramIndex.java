@@ -0,0 +1,115 @@
+package by.andd3dfx.templateapp.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.Value;
+
+/**
+ * In-memory trigram index with the same notion of similarity as `pg_trgm` extension of PostgreSQL:
+ * each word (lowercased alphanumeric chars) is padded with two spaces before and one after,
+ * and split into trigrams.
+ * <p>
+ * Word similarity of query and text is the greatest similarity (shared trigrams / all trigrams) between trigrams
+ * of query and any continuous extent of trigrams of text, so partial words of text are matched as well.
+ */
+public class TrigramIndex {
+
+    private final Map<Long, List<List<String>>> trigramsById = new HashMap<>();
+    private final Map<String, Set<Long>> idsByTrigram = new HashMap<>();
+
+    /**
+     * @param textsById texts (title, author, etc.) to search in by ids of their owners
+     */
+    public TrigramIndex(Map<Long, List<String>> textsById) {
+        textsById.forEach((id, texts) -> {
+            List<List<String>> trigrams = texts.stream()
+                .map(TrigramIndex::trigrams)
+                .collect(Collectors.toList());
+            trigramsById.put(id, trigrams);
+            trigrams.forEach(textTrigrams -> textTrigrams.forEach(trigram ->
+                idsByTrigram.computeIfAbsent(trigram, key -> new HashSet<>()).add(id)));
+        });
+    }
+
+    /**
+     * Owners of texts with word similarity to query not less than threshold, the most similar first.
+     * <p>
+     * Only owners which share enough trigrams with query to reach the threshold are checked.
+     */
+    public List<Match> lookup(String query, float threshold, int limit) {
+        Set<String> queryTrigrams = new HashSet<>(trigrams(query));
+        if (queryTrigrams.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> sharedTrigrams = new HashMap<>();
+        queryTrigrams.forEach(trigram -> idsByTrigram.getOrDefault(trigram, Set.of())
+            .forEach(id -> sharedTrigrams.merge(id, 1, Integer::sum)));
+        float minShared = threshold * queryTrigrams.size();
+
+        return sharedTrigrams.entrySet().stream()
+            .filter(entry -> entry.getValue() >= minShared)
+            .map(entry -> new Match(entry.getKey(), trigramsById.get(entry.getKey()).stream()
+                .map(textTrigrams -> wordSimilarity(queryTrigrams, textTrigrams))
+                .max(Float::compare)
+                .orElse(0f)))
+            .filter(match -> match.getSimilarity() >= threshold)
+            .sorted(Comparator.comparing(Match::getSimilarity).reversed().thenComparing(Match::getId))
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    public static float wordSimilarity(String query, String text) {
+        return wordSimilarity(new HashSet<>(trigrams(query)), trigrams(text));
+    }
+
+    private static float wordSimilarity(Set<String> queryTrigrams, List<String> textTrigrams) {
+        float best = 0;
+        for (int start = 0; start < textTrigrams.size(); start++) {
+            Set<String> extent = new HashSet<>();
+            int shared = 0;
+            for (int end = start; end < textTrigrams.size(); end++) {
+                String trigram = textTrigrams.get(end);
+                if (extent.add(trigram) && queryTrigrams.contains(trigram)) {
+                    shared++;
+                }
+                float similarity = (float) shared / (queryTrigrams.size() + extent.size() - shared);
+                best = Math.max(best, similarity);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Trigrams of words of text in order of their appearance, without duplicates within a word.
+     */
+    static List<String> trigrams(String text) {
+        List<String> trigrams = new ArrayList<>();
+        for (String word : text.toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            Set<String> wordTrigrams = new LinkedHashSet<>();
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                wordTrigrams.add(padded.substring(i, i + 3));
+            }
+            trigrams.addAll(wordTrigrams);
+        }
+        return trigrams;
+    }
+
+    @Value
+    public static class Match {
+
+        long id;
+        float similarity;
+    }
+}
@@ -5,6 +5,7 @@ import by.andd3dfx.templateapp.dto.ArticleUpdateDto;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 
 public class OnlyOneFieldModifiedValidator implements ConstraintValidator<OnlyOneFieldModified, ArticleUpdateDto> {
 
@@ -13,6 +14,9 @@ public class OnlyOneFieldModifiedValidator implements ConstraintValidator<OnlyOn
         int count = 0;
         ArticleUpdateDto.class.getDeclaredFields();
         for (Field field : ArticleUpdateDto.class.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
             try {
                 field.setAccessible(true);
                 final Object o = field.get(articleUpdateDto);
@@ -0,0 +1,5 @@
+drop index article_title_idx;
+create index article_title_idx on articles(title, id);
+
+drop index article_date_created_idx;
+create index article_date_created_idx on articles(date_created, id);
@@ -0,0 +1,2 @@
+-- Should be the same as allocationSize of Article's id generator (pooled optimizer)
+alter sequence article_id_seq increment by 50;
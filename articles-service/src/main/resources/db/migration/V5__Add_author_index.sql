@@ -0,0 +1 @@
+create index article_author_idx on articles(author);
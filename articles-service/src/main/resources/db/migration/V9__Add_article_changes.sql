@@ -0,0 +1,10 @@
+-- Changes feed: updated articles are read by (date_updated, id), deleted ones by their tombstones
+create index article_date_updated_idx on articles(date_updated, id);
+
+create table article_tombstones (
+    article_id int not null,
+    date_deleted timestamp not null,
+    primary key (article_id)
+);
+
+create index article_tombstone_date_deleted_idx on article_tombstones(date_deleted, article_id);
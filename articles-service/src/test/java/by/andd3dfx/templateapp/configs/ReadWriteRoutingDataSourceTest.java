@@ -0,0 +1,144 @@
+package by.andd3dfx.templateapp.configs;
+
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "select lag";
+
+    @Mock
+    private DataSource primary;
+    @Mock
+    private DataSource replica0;
+    @Mock
+    private DataSource replica1;
+    @Mock
+    private Connection primaryConnection;
+    @Mock
+    private Connection replica0Connection;
+    @Mock
+    private Connection replica1Connection;
+
+    private ReplicaProperties properties;
+
+    @BeforeEach
+    public void setup() throws SQLException {
+        lenient().when(primary.getConnection()).thenReturn(primaryConnection);
+        lenient().when(replica0.getConnection()).thenReturn(replica0Connection);
+        lenient().when(replica1.getConnection()).thenReturn(replica1Connection);
+        lenient().when(replica0Connection.isValid(anyInt())).thenReturn(true);
+        lenient().when(replica1Connection.isValid(anyInt())).thenReturn(true);
+        properties = new ReplicaProperties();
+        properties.setMaxLag(Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void getConnectionForWrite() throws SQLException {
+        var dataSource = buildDataSource();
+
+        assertThat(dataSource.getConnection(), sameInstance(primaryConnection));
+    }
+
+    @Test
+    void getConnectionForReadRoundRobin() throws SQLException {
+        var dataSource = buildDataSource();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(dataSource.getConnection(), sameInstance(replica0Connection));
+        assertThat(dataSource.getConnection(), sameInstance(replica1Connection));
+        assertThat(dataSource.getConnection(), sameInstance(replica0Connection));
+    }
+
+    @Test
+    void getConnectionForReadBeforeReplicasChecked() throws SQLException {
+        var dataSource = new ReadWriteRoutingDataSource(primary, List.of(replica0, replica1), properties);
+        dataSource.afterPropertiesSet();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(dataSource.getConnection(), sameInstance(primaryConnection));
+    }
+
+    @Test
+    void getConnectionForReadSkipsLaggingReplica() throws SQLException {
+        properties.setLagQuery(LAG_QUERY);
+        mockLag(replica0Connection, 60);
+        mockLag(replica1Connection, 2);
+        var dataSource = buildDataSource();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(dataSource.getConnection(), sameInstance(replica1Connection));
+        assertThat(dataSource.getConnection(), sameInstance(replica1Connection));
+    }
+
+    @Test
+    void getConnectionForReadWhenAllReplicasUnavailable() throws SQLException {
+        when(replica0.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(replica1Connection.isValid(anyInt())).thenReturn(false);
+        var dataSource = buildDataSource();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(dataSource.getConnection(), sameInstance(primaryConnection));
+    }
+
+    @Test
+    void getConnectionForReadAfterReplicaRecovered() throws SQLException {
+        properties.setLagQuery(LAG_QUERY);
+        var statement = mockLag(replica0Connection, 60);
+        mockLag(replica1Connection, 60);
+        var dataSource = buildDataSource();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(dataSource.getConnection(), sameInstance(primaryConnection));
+
+        var resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(0.5);
+        when(statement.executeQuery(LAG_QUERY)).thenReturn(resultSet);
+        dataSource.checkReplicas();
+
+        assertThat(dataSource.getConnection(), sameInstance(replica0Connection));
+        assertThat(dataSource.getConnection(), sameInstance(replica0Connection));
+    }
+
+    private ReadWriteRoutingDataSource buildDataSource() {
+        var dataSource = new ReadWriteRoutingDataSource(primary, List.of(replica0, replica1), properties);
+        dataSource.afterPropertiesSet();
+        dataSource.checkReplicas();
+        return dataSource;
+    }
+
+    private Statement mockLag(Connection connection, double lagSeconds) throws SQLException {
+        var statement = mock(Statement.class);
+        var resultSet = mock(ResultSet.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(LAG_QUERY)).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(lagSeconds);
+        return statement;
+    }
+}
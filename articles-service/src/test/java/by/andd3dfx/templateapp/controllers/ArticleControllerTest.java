@@ -4,30 +4,45 @@ import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
 
 import by.andd3dfx.templateapp.IntegrationTestInitializer;
+import by.andd3dfx.templateapp.dto.ArticleAuthorUpdateDto;
 import by.andd3dfx.templateapp.dto.ArticleDto;
 import by.andd3dfx.templateapp.dto.ArticleUpdateDto;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.mock.http.MockHttpOutputMessage;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.web.WebAppConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.web.context.WebApplicationContext;
 
 @ContextConfiguration(initializers = IntegrationTestInitializer.class)
@@ -42,12 +57,27 @@ class ArticleControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    /**
+     * Articles created by test, they are deleted after it to keep amount of articles expected by other tests.
+     */
+    private final List<Long> createdIds = new ArrayList<>();
+
     @BeforeEach
     public void setup() {
         mockMvc = webAppContextSetup(webApplicationContext)
             .build();
     }
 
+    @AfterEach
+    public void tearDown() throws Exception {
+        if (!createdIds.isEmpty()) {
+            mockMvc.perform(delete("/api/v1/articles")
+                .param("ids", createdIds.stream().map(String::valueOf).toArray(String[]::new))
+            )
+                .andExpect(status().isOk());
+        }
+    }
+
     @Test
     public void createArticle() throws Exception {
         ArticleDto articleDto = ArticleDto.builder()
@@ -71,6 +101,66 @@ class ArticleControllerTest {
             .andExpect(jsonPath("$.dateUpdated", notNullValue()));
     }
 
+    @Test
+    public void createArticles() throws Exception {
+        ArticleDto articleDto = ArticleDto.builder()
+                .title("Some tittle value")
+                .text("Some text")
+                .author("Some author")
+                .build();
+        ArticleDto articleDto2 = ArticleDto.builder()
+                .title("Another tittle value")
+                .text("Another text")
+                .author("Another author")
+                .build();
+
+        String body = mockMvc.perform(post("/api/v1/articles/batch")
+            .contentType(APPLICATION_JSON)
+            .content(json(List.of(articleDto, articleDto2)))
+        )
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$[0].id", notNullValue()))
+            .andExpect(jsonPath("$[0].title", is(articleDto.getTitle())))
+            .andExpect(jsonPath("$[1].id", notNullValue()))
+            .andExpect(jsonPath("$[1].title", is(articleDto2.getTitle())))
+            .andExpect(jsonPath("$[1].dateCreated", notNullValue()))
+            .andReturn().getResponse().getContentAsString();
+        rememberCreated(body);
+    }
+
+    @Test
+    public void createArticlesWithInvalidArticle() throws Exception {
+        ArticleDto articleDto = ArticleDto.builder()
+                .title("Some tittle value")
+                .text("Some text")
+                .author("Some author")
+                .build();
+        ArticleDto articleDto2 = ArticleDto.builder()
+                .text("Another text")
+                .author("Another author")
+                .build();
+
+        String message = mockMvc.perform(post("/api/v1/articles/batch")
+            .contentType(APPLICATION_JSON)
+            .content(json(List.of(articleDto, articleDto2)))
+        )
+            .andExpect(status().isBadRequest())
+            .andReturn().getResolvedException().getMessage();
+        assertThat(message, containsString("Title should be populated"));
+    }
+
+    @Test
+    public void createArticlesWithEmptyBatch() throws Exception {
+        String message = mockMvc.perform(post("/api/v1/articles/batch")
+            .contentType(APPLICATION_JSON)
+            .content("[]")
+        )
+            .andExpect(status().isBadRequest())
+            .andReturn().getResolvedException().getMessage();
+        assertThat(message, containsString("Batch size must be between 1 and 10000"));
+    }
+
     @Test
     public void createArticleWithIdPopulated() throws Exception {
         ArticleDto articleDto = ArticleDto.builder()
@@ -258,6 +348,51 @@ class ArticleControllerTest {
             .andExpect(status().isNotFound());
     }
 
+    @Test
+    public void deleteArticles() throws Exception {
+        mockMvc.perform(delete("/api/v1/articles")
+            .param("ids", "9998", "9999")
+        )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.affected", is(0)));
+    }
+
+    @Test
+    public void deleteArticlesByAuthor() throws Exception {
+        createArticles("Author to delete", 2);
+
+        mockMvc.perform(delete("/api/v1/articles")
+            .param("author", "Author to delete")
+        )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.affected", is(2)));
+    }
+
+    @Test
+    public void updateArticlesAuthor() throws Exception {
+        createArticles("Author to rename", 3);
+
+        mockMvc.perform(patch("/api/v1/articles")
+            .param("author", "Author to rename")
+            .contentType(APPLICATION_JSON)
+            .content(json(new ArticleAuthorUpdateDto("Renamed author")))
+        )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.affected", is(3)));
+    }
+
+    @Test
+    public void updateArticlesAuthorWithEmptyAuthor() throws Exception {
+        String message = mockMvc.perform(patch("/api/v1/articles")
+            .param("author", "Some author")
+            .contentType(APPLICATION_JSON)
+            .content(json(new ArticleAuthorUpdateDto("")))
+        )
+            .andExpect(status().isBadRequest())
+            .andReturn().getResolvedException().getMessage();
+        assertThat(message, containsString("Author length should be 1 at least"));
+    }
+
     @Test
     public void readArticle() throws Exception {
         mockMvc.perform(get("/api/v1/articles/1")
@@ -301,6 +436,310 @@ class ArticleControllerTest {
             .andExpect(jsonPath("$.totalElements", is(9)));
     }
 
+    @Test
+    public void readArticlesScrolled() throws Exception {
+        mockMvc.perform(get("/api/v1/articles/scroll")
+            .param("sortBy", "DATE_CREATED")
+            .param("direction", "DESC")
+            .param("size", "3")
+            .contentType(APPLICATION_JSON)
+        )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(3)))
+            .andExpect(jsonPath("$.size", is(3)))
+            .andExpect(jsonPath("$.nextCursor", notNullValue()));
+    }
+
+    @Test
+    public void readArticlesOfAuthorScrolled() throws Exception {
+        createArticles("Author to scroll", 3);
+
+        String body = mockMvc.perform(get("/api/v1/articles/scroll")
+            .param("author", "Author to scroll")
+            .param("sortBy", "DATE_CREATED")
+            .param("direction", "DESC")
+            .param("size", "2")
+            .contentType(APPLICATION_JSON)
+        )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(2)))
+            .andExpect(jsonPath("$.content[*].author", everyItem(is("Author to scroll"))))
+            .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(body).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/v1/articles/scroll")
+            .param("author", "Author to scroll")
+            .param("size", "2")
+            .param("cursor", cursor)
+            .contentType(APPLICATION_JSON)
+        )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(1)))
+            .andExpect(jsonPath("$.content[0].author", is("Author to scroll")))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    public void exportArticles() throws Exception {
+        long id = createArticle("Article to export");
+
+        MvcResult result = mockMvc.perform(get("/api/v1/articles/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat("Each article should be followed by new line", body.endsWith("\n"), is(true));
+        var lines = body.split("\n");
+        var lastArticle = objectMapper.readValue(lines[lines.length - 1], ArticleDto.class);
+        assertThat(lastArticle.getId(), is(id));
+        assertThat(lastArticle.getTitle(), is("Article to export"));
+        assertThat(lastArticle.getText(), is("Some text"));
+    }
+
+    @Test
+    public void importNdjson() throws Exception {
+        var input = "{\"title\":\"Imported article\",\"text\":\"Some\\ttext\",\"author\":\"Some author\"}\n"
+            + "{\"title\":\"Article without author\",\"text\":\"Some text\"}\n";
+
+        mockMvc.perform(post("/api/v1/articles/import")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content(input)
+        )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported", is(1)))
+            .andExpect(jsonPath("$.failed", is(1)))
+            .andExpect(jsonPath("$.errors", hasSize(1)))
+            .andExpect(jsonPath("$.errors[0].row", is(2)))
+            .andExpect(jsonPath("$.errors[0].message", is("Author should be populated")));
+
+        assertThat(lookupArticle("Imported article").get("text").asText(), is("Some\ttext"));
+    }
+
+    @Test
+    public void importExportedArticle() throws Exception {
+        long id = createArticle("Article to reimport");
+        MvcResult result = mockMvc.perform(get("/api/v1/articles/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        var lines = mockMvc.perform(asyncDispatch(result))
+            .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        var exported = lines[lines.length - 1];
+        assertThat(objectMapper.readTree(exported).get("id").asLong(), is(id));
+
+        mockMvc.perform(post("/api/v1/articles/import")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content(exported + "\n")
+        )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported", is(1)))
+            .andExpect(jsonPath("$.failed", is(0)));
+
+        String body = mockMvc.perform(get("/api/v1/articles/scroll")
+            .param("author", "Some author")
+            .param("sortBy", "DATE_CREATED")
+            .param("direction", "DESC")
+            .param("size", "1")
+        )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].title", is("Article to reimport")))
+            .andReturn().getResponse().getContentAsString();
+        long importedId = objectMapper.readTree(body).get("content").get(0).get("id").asLong();
+        createdIds.add(importedId);
+        assertThat("Imported article should get new id", importedId == id, is(false));
+    }
+
+    @Test
+    public void importCsv() throws Exception {
+        var input = "title,summary,text,author\n"
+            + "Imported CSV article,Some summary,\"Some\ntext\",Some author\n"
+            + ",Some summary,Some text,Some author\n";
+
+        mockMvc.perform(post("/api/v1/articles/import")
+            .contentType("text/csv")
+            .content(input)
+        )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported", is(1)))
+            .andExpect(jsonPath("$.failed", is(1)))
+            .andExpect(jsonPath("$.errors[0].row", is(2)))
+            .andExpect(jsonPath("$.errors[0].message", is("Title should be populated")));
+
+        assertThat(lookupArticle("Imported CSV article").get("text").asText(), is("Some\ntext"));
+    }
+
+    @Test
+    public void importWithUnsupportedContentType() throws Exception {
+        mockMvc.perform(post("/api/v1/articles/import")
+            .contentType(MediaType.APPLICATION_XML)
+            .content("<articles/>")
+        )
+            .andExpect(status().isUnsupportedMediaType());
+    }
+
+    @Test
+    public void readChanges() throws Exception {
+        var since = LocalDateTime.now();
+        long deletedId = createArticle("Article to delete");
+        long updatedId = createArticle("Article to update");
+        mockMvc.perform(delete("/api/v1/articles/" + deletedId))
+            .andExpect(status().isNoContent());
+
+        String body = mockMvc.perform(get("/api/v1/articles/changes")
+            .param("since", since.toString())
+            .param("size", "1")
+        )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(1)))
+            .andExpect(jsonPath("$.content[0].id", is((int) updatedId)))
+            .andExpect(jsonPath("$.content[0].deleted", is(false)))
+            .andExpect(jsonPath("$.content[0].article.title", is("Article to update")))
+            .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(body).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/v1/articles/changes")
+            .param("size", "1")
+            .param("cursor", cursor)
+        )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(1)))
+            .andExpect(jsonPath("$.content[0].id", is((int) deletedId)))
+            .andExpect(jsonPath("$.content[0].deleted", is(true)))
+            .andExpect(jsonPath("$.content[0].article").doesNotExist())
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    public void readChangesWithInvalidSince() throws Exception {
+        mockMvc.perform(get("/api/v1/articles/changes")
+            .param("since", "yesterday")
+        )
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void readArticlesScrolledWithInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/articles/scroll")
+            .param("cursor", "wrong-cursor")
+            .contentType(APPLICATION_JSON)
+        )
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    public void readArticlesScrolledWithTooLargeSize() throws Exception {
+        String message = mockMvc.perform(get("/api/v1/articles/scroll")
+            .param("size", "1001")
+            .contentType(APPLICATION_JSON)
+        )
+            .andExpect(status().isBadRequest())
+            .andReturn().getResolvedException().getMessage();
+        assertThat(message, containsString("Page size should be between 1 and 1000"));
+    }
+
+    @Test
+    public void readChangesWithTooLargeSize() throws Exception {
+        mockMvc.perform(get("/api/v1/articles/changes")
+            .param("size", String.valueOf(Integer.MAX_VALUE))
+        )
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void searchArticlesWithTooLargeSize() throws Exception {
+        mockMvc.perform(get("/api/v1/articles/search")
+            .param("q", "котлета")
+            .param("size", "1001")
+        )
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void searchArticles() throws Exception {
+        var articleDtos = List.of(
+            ArticleDto.builder().title("Обед").text("На обед подали котлеты с пюре").author("Повар").build(),
+            ArticleDto.builder().title("Рецепт котлеты").text("Фарш, лук, хлеб").author("Повар").build());
+        String created = mockMvc.perform(post("/api/v1/articles/batch")
+            .contentType(APPLICATION_JSON)
+            .content(json(articleDtos))
+        )
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        rememberCreated(created);
+
+        // Word forms are matched, match in title ranks above match in text
+        String body = mockMvc.perform(get("/api/v1/articles/search")
+            .param("q", "котлета")
+            .param("size", "1")
+            .contentType(APPLICATION_JSON)
+        )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(1)))
+            .andExpect(jsonPath("$.content[0].title", is("Рецепт котлеты")))
+            .andExpect(jsonPath("$.content[0].rank", notNullValue()))
+            .andExpect(jsonPath("$.nextCursor", notNullValue()))
+            .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(body).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/v1/articles/search")
+            .param("q", "котлета")
+            .param("size", "1")
+            .param("cursor", cursor)
+            .contentType(APPLICATION_JSON)
+        )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(1)))
+            .andExpect(jsonPath("$.content[0].title", is("Обед")))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    public void searchArticlesWithBlankQuery() throws Exception {
+        mockMvc.perform(get("/api/v1/articles/search")
+            .param("q", " ")
+            .contentType(APPLICATION_JSON)
+        )
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void lookupArticles() throws Exception {
+        // Typo in author
+        mockMvc.perform(get("/api/v1/articles/lookup")
+            .param("q", "Дорофй")
+            .param("threshold", "0.5")
+            .contentType(APPLICATION_JSON)
+        )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].author", is("Авва Дорофей")))
+            .andExpect(jsonPath("$[0].rank", notNullValue()));
+
+        // Partial words of title, the most similar first
+        mockMvc.perform(get("/api/v1/articles/lookup")
+            .param("q", "поучен")
+            .param("limit", "1")
+            .contentType(APPLICATION_JSON)
+        )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].title", is("Душеполезные поучения")));
+    }
+
+    @Test
+    public void lookupArticlesWithInvalidThreshold() throws Exception {
+        String message = mockMvc.perform(get("/api/v1/articles/lookup")
+            .param("q", "Дорофей")
+            .param("threshold", "1.5")
+            .contentType(APPLICATION_JSON)
+        )
+            .andExpect(status().isBadRequest())
+            .andReturn().getResolvedException().getMessage();
+        assertThat(message, containsString("Threshold should be between 0 and 1"));
+    }
+
     @Test
     public void updateArticleTitle() throws Exception {
         ArticleUpdateDto articleUpdateDto = ArticleUpdateDto.builder()
@@ -317,7 +756,7 @@ class ArticleControllerTest {
     @Test
     public void updateArticleSummary() throws Exception {
         ArticleUpdateDto articleUpdateDto = ArticleUpdateDto.builder()
-                .summary("Some summary value")
+                .summary(Optional.of("Some summary value"))
                 .build();
 
         mockMvc.perform(patch("/api/v1/articles/2")
@@ -342,7 +781,7 @@ class ArticleControllerTest {
     @Test
     public void updateArticleMultipleFields() throws Exception {
         ArticleUpdateDto articleUpdateDto = new ArticleUpdateDto();
-        articleUpdateDto.setSummary("Some summary value");
+        articleUpdateDto.setSummary(Optional.of("Some summary value"));
         articleUpdateDto.setText("Some text value");
 
         String message = mockMvc.perform(patch("/api/v1/articles/2")
@@ -354,6 +793,103 @@ class ArticleControllerTest {
         assertThat(message, containsString("Only one field should be modified at once"));
     }
 
+    @Test
+    public void patchArticleMultipleFields() throws Exception {
+        ArticleUpdateDto articleUpdateDto = ArticleUpdateDto.builder()
+                .title("Some title value")
+                .summary(Optional.of("Some summary value"))
+                .text("Some text value")
+                .build();
+
+        mockMvc.perform(patch("/api/v1/articles/2")
+            .contentType(ArticleUpdateDto.MERGE_PATCH_JSON_VALUE)
+            .content(json(articleUpdateDto))
+        )
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/articles/2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.title", is("Some title value")))
+            .andExpect(jsonPath("$.summary", is("Some summary value")))
+            .andExpect(jsonPath("$.text", is("Some text value")));
+    }
+
+    @Test
+    public void patchArticleWithTooLongSummary() throws Exception {
+        ArticleUpdateDto articleUpdateDto = ArticleUpdateDto.builder()
+                .title("Some title value")
+                .summary(Optional.of(createStringWithLength(260)))
+                .build();
+
+        String message = mockMvc.perform(patch("/api/v1/articles/2")
+            .contentType(ArticleUpdateDto.MERGE_PATCH_JSON_VALUE)
+            .content(json(articleUpdateDto))
+        )
+            .andExpect(status().isBadRequest())
+            .andReturn().getResolvedException().getMessage();
+        assertThat(message, containsString("Summary length shouldn't be greater than 255"));
+    }
+
+    @Test
+    public void patchArticleRemovingSummary() throws Exception {
+        long id = createArticle("Article with removed summary");
+        mockMvc.perform(patch("/api/v1/articles/" + id)
+            .contentType(ArticleUpdateDto.MERGE_PATCH_JSON_VALUE)
+            .content("{\"summary\":\"Some summary value\"}"))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(patch("/api/v1/articles/" + id)
+            .contentType(ArticleUpdateDto.MERGE_PATCH_JSON_VALUE)
+            .content("{\"summary\":null,\"text\":\"New text\"}"))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/articles/" + id))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.summary").doesNotExist())
+            .andExpect(jsonPath("$.text", is("New text")));
+    }
+
+    @Test
+    public void patchArticleWithNullTitle() throws Exception {
+        long id = createArticle("Article with null title");
+
+        String message = mockMvc.perform(patch("/api/v1/articles/" + id)
+            .contentType(ArticleUpdateDto.MERGE_PATCH_JSON_VALUE)
+            .content("{\"title\":null,\"text\":\"New text\"}"))
+            .andExpect(status().isBadRequest())
+            .andReturn().getResolvedException().getMessage();
+        assertThat(message, containsString("title"));
+
+        mockMvc.perform(get("/api/v1/articles/" + id))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.title", is("Article with null title")))
+            .andExpect(jsonPath("$.text", is("Some text")));
+    }
+
+    @Test
+    public void patchArticleWithNullText() throws Exception {
+        long id = createArticle("Article with null text");
+
+        String message = mockMvc.perform(patch("/api/v1/articles/" + id)
+            .contentType(ArticleUpdateDto.MERGE_PATCH_JSON_VALUE)
+            .content("{\"text\":null}"))
+            .andExpect(status().isBadRequest())
+            .andReturn().getResolvedException().getMessage();
+        assertThat(message, containsString("text"));
+
+        mockMvc.perform(get("/api/v1/articles/" + id))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.text", is("Some text")));
+    }
+
+    @Test
+    public void patchAbsentArticle() throws Exception {
+        mockMvc.perform(patch("/api/v1/articles/123")
+            .contentType(ArticleUpdateDto.MERGE_PATCH_JSON_VALUE)
+            .content("{}"))
+            .andExpect(status().isNotFound());
+    }
+
     @Test
     public void updateAbsentArticle() throws Exception {
         ArticleUpdateDto articleUpdateDto = ArticleUpdateDto.builder()
@@ -399,7 +935,7 @@ class ArticleControllerTest {
     @Test
     public void updateArticleWithTooLongSummary() throws Exception {
         ArticleUpdateDto articleUpdateDto = ArticleUpdateDto.builder()
-                .summary(createStringWithLength(260))
+                .summary(Optional.of(createStringWithLength(260)))
                 .build();
 
         String message = mockMvc.perform(patch("/api/v1/articles/2")
@@ -426,6 +962,52 @@ class ArticleControllerTest {
         assertThat(message, containsString("Text length should be 1 at least"));
     }
 
+    private long createArticle(String title) throws Exception {
+        var articleDto = ArticleDto.builder().title(title).text("Some text").author("Some author").build();
+        String body = mockMvc.perform(post("/api/v1/articles")
+            .contentType(APPLICATION_JSON)
+            .content(json(articleDto))
+        )
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(body).get("id").asLong();
+        createdIds.add(id);
+        return id;
+    }
+
+    private void createArticles(String author, int count) throws Exception {
+        var articleDtos = IntStream.range(0, count)
+            .mapToObj(i -> ArticleDto.builder().title("Title " + i).text("Some text").author(author).build())
+            .collect(Collectors.toList());
+        String body = mockMvc.perform(post("/api/v1/articles/batch")
+            .contentType(APPLICATION_JSON)
+            .content(json(articleDtos))
+        )
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        rememberCreated(body);
+    }
+
+    private void rememberCreated(String body) throws IOException {
+        objectMapper.readTree(body).forEach(article -> createdIds.add(article.get("id").asLong()));
+    }
+
+    /**
+     * Full article (with text) which is found first by title, it's deleted after test.
+     */
+    private JsonNode lookupArticle(String title) throws Exception {
+        String body = mockMvc.perform(get("/api/v1/articles/lookup").param("q", title))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].title", is(title)))
+            .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(body).get(0).get("id").asLong();
+        createdIds.add(id);
+        body = mockMvc.perform(get("/api/v1/articles/" + id))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
     private String json(Object o) throws IOException {
         return objectMapper.writeValueAsString(o);
     }
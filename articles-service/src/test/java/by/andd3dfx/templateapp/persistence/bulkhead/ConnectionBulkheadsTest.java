@@ -0,0 +1,114 @@
+package by.andd3dfx.templateapp.persistence.bulkhead;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionBulkheadsTest {
+
+    @Mock
+    private DataSource targetDataSource;
+    @Mock
+    private Connection connection;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BulkheadDataSource dataSource;
+
+    @BeforeEach
+    public void setup() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        var bulkheads = new ConnectionBulkheads(Map.of(
+            BulkheadPartition.POINT_READ, 2,
+            BulkheadPartition.LIST_SCAN, 1
+        ), Duration.ofMillis(50));
+        meterRegistry = new SimpleMeterRegistry();
+        bulkheads.bindTo(meterRegistry);
+        dataSource = new BulkheadDataSource(targetDataSource, bulkheads);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ConnectionBulkheads.bindPartition(null);
+    }
+
+    @Test
+    void getConnectionOutsideOfPartition() throws SQLException {
+        assertThat(dataSource.getConnection(), sameInstance(connection));
+        assertThat(dataSource.getConnection(), sameInstance(connection));
+    }
+
+    @Test
+    void getConnectionWhenPartitionIsFull() throws SQLException {
+        ConnectionBulkheads.bindPartition(BulkheadPartition.LIST_SCAN);
+        dataSource.getConnection();
+
+        var exception = assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+
+        assertThat(exception.getMessage(),
+            is("Bulkhead list-scan - connection is not available, request timed out after 50ms"));
+        assertThat(gauge("active", "list-scan"), is(1.0));
+        assertThat(meterRegistry.get("datasource.bulkhead.connections.timeout").tag("partition", "list-scan")
+            .counter().count(), is(1.0));
+    }
+
+    @Test
+    void getConnectionOfOtherPartitionWhenPartitionIsFull() throws SQLException {
+        ConnectionBulkheads.bindPartition(BulkheadPartition.LIST_SCAN);
+        dataSource.getConnection();
+
+        ConnectionBulkheads.bindPartition(BulkheadPartition.POINT_READ);
+        dataSource.getConnection();
+
+        assertThat(gauge("active", "point-read"), is(1.0));
+        assertThat(gauge("idle", "point-read"), is(1.0));
+        assertThat(meterRegistry.get("datasource.bulkhead.connections.acquire").tag("partition", "point-read")
+            .timer().count(), is(1L));
+    }
+
+    @Test
+    void closeOfConnectionReleasesPermitOnce() throws SQLException {
+        ConnectionBulkheads.bindPartition(BulkheadPartition.POINT_READ);
+        var bulkheadConnection = dataSource.getConnection();
+
+        bulkheadConnection.close();
+        bulkheadConnection.close();
+
+        assertThat(gauge("active", "point-read"), is(0.0));
+        assertThat(gauge("idle", "point-read"), is(2.0));
+        Mockito.verify(connection, times(2)).close();
+    }
+
+    @Test
+    void getConnectionWhenTargetFails() throws SQLException {
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+        ConnectionBulkheads.bindPartition(BulkheadPartition.LIST_SCAN);
+
+        assertThrows(SQLException.class, () -> dataSource.getConnection());
+
+        assertThat(gauge("idle", "list-scan"), is(1.0));
+    }
+
+    private double gauge(String name, String partition) {
+        return meterRegistry.get("datasource.bulkhead.connections." + name).tag("partition", partition)
+            .gauge().value();
+    }
+}
@@ -1,28 +1,50 @@
 package by.andd3dfx.templateapp.persistence.dao;
 
+import by.andd3dfx.templateapp.configs.SecondLevelCacheConfig;
+import by.andd3dfx.templateapp.dto.ArticleChangeDto;
+import by.andd3dfx.templateapp.dto.ArticleSummaryDto;
 import by.andd3dfx.templateapp.persistence.entities.Article;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(SecondLevelCacheConfig.class)
 class ArticleRepositoryTest {
 
     @Autowired
     private ArticleRepository repository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private EntityManager entityManager;
 
     private Article entity;
     private Article entity2;
@@ -42,6 +64,176 @@ class ArticleRepositoryTest {
         repository.deleteAll();
     }
 
+    @Test
+    public void persistAll() {
+        var articles = IntStream.range(0, 120)
+            .mapToObj(i -> buildArticle("Title " + i, "HD", LocalDateTime.parse("2010-12-03T10:15:30")))
+            .collect(Collectors.toList());
+
+        var result = repository.persistAll(articles);
+
+        assertThat("Ids should be assigned", result.stream().map(Article::getId).distinct().count(), is(120L));
+        assertThat("Wrong records amount", repository.count(), is(123L));
+    }
+
+    @Test
+    public void insertAll() {
+        var articles = IntStream.range(0, 2500)
+            .mapToObj(i -> Article.builder().title("Title " + i).text("Text\twith\\special\nchars\r" + i)
+                .author("Author").build());
+
+        var result = repository.insertAll(articles);
+
+        assertThat(result, is(2500L));
+        assertThat("Wrong records amount", repository.count(), is(2503L));
+        entityManager.clear();
+        List<Long> ids = findAllIds();
+        assertThat("Ids should be unique", ids.stream().distinct().count(), is(2503L));
+        Article article = repository.findById(Collections.max(ids)).get();
+        assertThat(article.getTitle(), is("Title 2499"));
+        assertThat(article.getSummary(), nullValue());
+        assertThat(article.getText(), is("Text\twith\\special\nchars\r2499"));
+        assertThat(article.getDateCreated(), notNullValue());
+        assertThat(article.getDateUpdated(), is(article.getDateCreated()));
+    }
+
+    @Test
+    public void streamAll() {
+        try (var articles = repository.streamAll(2)) {
+            var result = articles.collect(Collectors.toList());
+
+            assertThat(result.stream().map(Article::getId).collect(Collectors.toList()),
+                is(List.of(entity.getId(), entity2.getId(), entity3.getId())));
+            assertThat(result.get(1).getTitle(), is("Vasily"));
+            assertTrue(result.stream().noneMatch(entityManager::contains), "Articles should be detached");
+        }
+    }
+
+    @Test
+    public void deleteArticleById() {
+        assertThat(repository.deleteArticleById(entity.getId()), is(1));
+        assertThat(repository.deleteArticleById(entity.getId()), is(0));
+        assertThat(repository.count(), is(2L));
+    }
+
+    @Test
+    public void deleteArticlesByIds() {
+        var result = repository.deleteArticlesByIds(List.of(entity.getId(), entity3.getId(), -1L));
+
+        assertThat(result, is(2));
+        assertThat(findAllIds(), is(List.of(entity2.getId())));
+    }
+
+    @Test
+    public void deleteArticlesByAuthor() {
+        entity2.setAuthor("Another author");
+        repository.save(entity2);
+
+        var result = repository.deleteArticlesByAuthor("Some author");
+
+        assertThat(result, is(2));
+        assertThat(findAllIds(), is(List.of(entity2.getId())));
+    }
+
+    @Test
+    public void updateArticlesAuthor() {
+        var dateUpdated = LocalDateTime.parse("2020-01-01T10:00:00");
+
+        var result = repository.updateArticlesAuthor("Some author", "New author", dateUpdated);
+
+        assertThat(result, is(3));
+        repository.findAll().forEach(article -> {
+            assertThat(article.getAuthor(), is("New author"));
+            assertThat(article.getDateUpdated(), is(dateUpdated));
+        });
+    }
+
+    @Test
+    public void updateFields() {
+        var result = repository.updateFields(entity.getId(), Map.of("title", "New title", "summary", "New summary"));
+
+        assertThat(result, is(1));
+        var article = repository.findById(entity.getId()).get();
+        assertThat(article.getTitle(), is("New title"));
+        assertThat(article.getSummary(), is("New summary"));
+        assertThat(article.getText(), is(entity.getText()));
+        assertTrue(article.getDateUpdated().isAfter(entity.getDateUpdated()));
+    }
+
+    @Test
+    public void updateFieldsOfAbsentArticle() {
+        assertThat(repository.updateFields(-1L, Map.of("title", "New title")), is(0));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void findByIdPutsArticleToSecondLevelCache() {
+        repository.findById(entity.getId());
+
+        assertTrue(entityManagerFactory.getCache().contains(Article.class, entity.getId()));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void updateFieldsEvictsArticleFromSecondLevelCache() {
+        repository.findById(entity.getId());
+        assertTrue(entityManagerFactory.getCache().contains(Article.class, entity.getId()));
+
+        repository.updateFields(entity.getId(), Map.of("title", "New title"));
+
+        assertFalse(entityManagerFactory.getCache().contains(Article.class, entity.getId()));
+        assertThat(repository.findById(entity.getId()).get().getTitle(), is("New title"));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void updateFieldsKeepsOtherArticlesInSecondLevelCache() {
+        repository.findById(entity2.getId());
+
+        repository.updateFields(entity.getId(), Map.of("title", "New title"));
+
+        assertTrue(entityManagerFactory.getCache().contains(Article.class, entity2.getId()));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void deleteArticleByIdEvictsOnlyThisArticleFromSecondLevelCache() {
+        repository.findById(entity.getId());
+        repository.findById(entity2.getId());
+
+        repository.deleteArticleById(entity.getId());
+
+        assertFalse(entityManagerFactory.getCache().contains(Article.class, entity.getId()));
+        assertTrue(entityManagerFactory.getCache().contains(Article.class, entity2.getId()));
+        assertTrue(repository.findById(entity.getId()).isEmpty());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void findAllSummariesIsServedFromQueryCacheUntilArticlesChange() {
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("id"));
+
+        repository.findAllSummaries(pageable);
+        var result = repository.findAllSummaries(pageable);
+
+        assertThat(statistics.getQueryCacheHitCount(), is(1L));
+        assertThat(ids(result.getContent()), is(List.of(entity.getId(), entity2.getId(), entity3.getId())));
+
+        repository.updateFields(entity.getId(), Map.of("title", "New title"));
+        result = repository.findAllSummaries(pageable);
+
+        assertThat(statistics.getQueryCacheHitCount(), is(1L));
+        assertThat(result.getContent().get(0).getTitle(), is("New title"));
+
+        repository.deleteArticleById(entity.getId());
+        result = repository.findAllSummaries(pageable);
+
+        assertThat(statistics.getQueryCacheHitCount(), is(1L));
+        assertThat(ids(result.getContent()), is(List.of(entity2.getId(), entity3.getId())));
+    }
+
     @Test
     public void findAll() {
         var result = repository.findAll(Pageable.ofSize(10));
@@ -60,6 +252,178 @@ class ArticleRepositoryTest {
         assertThat(articles.get(1), is(entity));
     }
 
+    @Test
+    public void findAllSummaries() {
+        var result = repository.findAllSummaries(PageRequest.of(0, 2, Sort.by("title", "summary")));
+
+        assertThat("Wrong records amount", result.getNumberOfElements(), is(2));
+        assertThat(ids(result.getContent()), is(List.of(entity3.getId(), entity.getId())));
+        assertTrue(result.hasNext());
+        assertThat(result.getTotalElements(), is(3L));
+        assertThat(result.getTotalPages(), is(2));
+        var article = result.getContent().get(0);
+        assertThat(article.getTitle(), is(entity3.getTitle()));
+        assertThat(article.getSummary(), is(entity3.getSummary()));
+        assertThat(article.getAuthor(), is(entity3.getAuthor()));
+    }
+
+    @Test
+    public void findNextPage_byTitle() {
+        var firstPage = repository.findNextPage(null, "title", Sort.Direction.ASC, null, null, 2);
+
+        // Ties by title are ordered by id
+        assertThat(ids(firstPage), is(List.of(entity.getId(), entity3.getId())));
+
+        var last = firstPage.get(1);
+        var nextPage = repository.findNextPage(null, "title", Sort.Direction.ASC, last.getTitle(), last.getId(),
+            2);
+
+        assertThat(ids(nextPage), is(List.of(entity2.getId())));
+    }
+
+    @Test
+    public void findNextPage_byDateCreatedDesc() {
+        var firstPage = repository.findNextPage(null, "dateCreated", Sort.Direction.DESC, null, null, 1);
+
+        assertThat(ids(firstPage), is(List.of(entity3.getId())));
+
+        var last = firstPage.get(0);
+        var nextPage = repository.findNextPage(null, "dateCreated", Sort.Direction.DESC, last.getDateCreated(),
+            last.getId(), 5);
+
+        assertThat(ids(nextPage), is(List.of(entity2.getId(), entity.getId())));
+    }
+
+    @Test
+    public void findNextPage_ofAuthorByDateCreatedDesc() {
+        entity2.setAuthor("Other author");
+        repository.save(entity2);
+
+        var firstPage = repository.findNextPage("Some author", "dateCreated", Sort.Direction.DESC, null, null, 1);
+
+        assertThat(ids(firstPage), is(List.of(entity3.getId())));
+
+        var last = firstPage.get(0);
+        var nextPage = repository.findNextPage("Some author", "dateCreated", Sort.Direction.DESC,
+            last.getDateCreated(), last.getId(), 5);
+
+        assertThat(ids(nextPage), is(List.of(entity.getId())));
+    }
+
+    @Test
+    public void findChanges() {
+        repository.updateArticlesAuthor("Some author", "Some author", LocalDateTime.parse("2020-01-01T10:00:00"));
+        assertThat(repository.createTombstonesByIds(List.of(entity2.getId(), -1L),
+            LocalDateTime.parse("2020-01-01T09:00:00")), is(1));
+        repository.deleteArticleById(entity2.getId());
+        var until = LocalDateTime.parse("2020-01-02T00:00:00");
+
+        var firstPage = repository.findChanges(null, null, until, 2);
+
+        assertThat(changeIds(firstPage), is(List.of(entity2.getId(), entity.getId())));
+        assertTrue(firstPage.get(0).isDeleted());
+        assertThat(firstPage.get(0).getArticle(), is(nullValue()));
+        assertFalse(firstPage.get(1).isDeleted());
+        assertThat(firstPage.get(1).getArticle().getTitle(), is("Ivan"));
+
+        var last = firstPage.get(1);
+        var nextPage = repository.findChanges(last.getDateChanged(), last.getId(), until, 2);
+
+        assertThat(changeIds(nextPage), is(List.of(entity3.getId())));
+    }
+
+    @Test
+    public void findChanges_notLaterThanUntil() {
+        repository.updateArticlesAuthor("Some author", "Some author", LocalDateTime.parse("2020-01-01T10:00:00"));
+        repository.createTombstonesByIds(List.of(entity2.getId()), LocalDateTime.parse("2020-01-01T09:00:00"));
+        repository.deleteArticleById(entity2.getId());
+
+        var changes = repository.findChanges(null, null, LocalDateTime.parse("2020-01-01T09:30:00"), 10);
+
+        assertThat(changeIds(changes), is(List.of(entity2.getId())));
+    }
+
+    @Test
+    public void createTombstonesByAuthor() {
+        entity2.setAuthor("Another author");
+        repository.save(entity2);
+        var dateDeleted = LocalDateTime.parse("2000-01-01T00:00:00");
+
+        var result = repository.createTombstonesByAuthor("Some author", dateDeleted);
+
+        assertThat(result, is(2));
+        var changes = repository.findChanges(null, null, dateDeleted, 10);
+        assertThat(changeIds(changes), is(List.of(entity.getId(), entity3.getId())));
+        assertTrue(changes.stream().allMatch(ArticleChangeDto::isDeleted));
+    }
+
+    @Test
+    public void search() {
+        var articles = repository.search("iVa", null, null, 5);
+
+        // Ties by rank are ordered by id
+        assertThat(ids(articles), is(List.of(entity.getId(), entity3.getId())));
+        assertThat(articles.get(0).getRank(), is(1.0f));
+        assertThat(articles.get(0).getTitle(), is("Ivan"));
+    }
+
+    @Test
+    public void search_matchInTitleRanksAboveMatchInSummaryAndText() {
+        entity2.setSummary("About Ivan");
+        repository.save(entity2);
+
+        var articles = repository.search("ivan", null, null, 5);
+
+        assertThat(ids(articles), is(List.of(entity.getId(), entity3.getId(), entity2.getId())));
+        assertThat(articles.get(2).getRank(), is(0.4f));
+    }
+
+    @Test
+    public void search_nextPage() {
+        var firstPage = repository.search("text", null, null, 2);
+
+        assertThat(ids(firstPage), is(List.of(entity.getId(), entity2.getId())));
+
+        var last = firstPage.get(1);
+        var nextPage = repository.search("text", last.getRank(), last.getId(), 2);
+
+        assertThat(ids(nextPage), is(List.of(entity3.getId())));
+    }
+
+    @Test
+    public void search_wildcardsAreMatchedLiterally() {
+        assertThat(repository.search("%", null, null, 5), is(List.of()));
+        assertThat(repository.search("any_text", null, null, 5), is(List.of()));
+    }
+
+    @Test
+    public void lookup() {
+        var articles = repository.lookup("Vasilij", 0.5f, 5);
+
+        assertThat(ids(articles), is(List.of(entity2.getId())));
+        assertThat(articles.get(0).getRank(), is(5f / 8));
+        assertThat(articles.get(0).getSummary(), is("HD"));
+    }
+
+    @Test
+    public void lookup_byAuthorWithLimit() {
+        var articles = repository.lookup("author", 0.5f, 2);
+
+        // Ties by similarity are ordered by id
+        assertThat(ids(articles), is(List.of(entity.getId(), entity2.getId())));
+        assertThat(articles.get(0).getRank(), is(1.0f));
+    }
+
+    @Test
+    public void lookup_reflectsChangesOfArticles() {
+        assertThat(repository.lookup("Petr", 0.5f, 5), is(List.of()));
+
+        entity3.setTitle("Petr");
+        repository.save(entity3);
+
+        assertThat(ids(repository.lookup("Petr", 0.5f, 5)), is(List.of(entity3.getId())));
+    }
+
     private static Article buildArticle(String title, String summary, LocalDateTime timestamp) {
         Article article = new Article();
         article.setTitle(title);
@@ -69,4 +433,22 @@ class ArticleRepositoryTest {
         article.setAuthor("Some author");
         return article;
     }
+
+    private List<Long> findAllIds() {
+        return StreamSupport.stream(repository.findAll().spliterator(), false)
+            .map(Article::getId)
+            .collect(Collectors.toList());
+    }
+
+    private static List<Long> ids(List<ArticleSummaryDto> articles) {
+        return articles.stream()
+            .map(ArticleSummaryDto::getId)
+            .collect(Collectors.toList());
+    }
+
+    private static List<Long> changeIds(List<ArticleChangeDto> changes) {
+        return changes.stream()
+            .map(ArticleChangeDto::getId)
+            .collect(Collectors.toList());
+    }
 }
\ No newline at end of file
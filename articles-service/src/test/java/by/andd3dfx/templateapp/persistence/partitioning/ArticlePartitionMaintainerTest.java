@@ -0,0 +1,124 @@
+package by.andd3dfx.templateapp.persistence.partitioning;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import by.andd3dfx.templateapp.configs.PartitioningProperties;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ArticlePartitionMaintainerTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-11-15T10:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private Connection connection;
+    @Mock
+    private DatabaseMetaData metaData;
+    @Mock
+    private Statement statement;
+    @Mock
+    private ResultSet partitionedResultSet;
+    @Mock
+    private ResultSet partitionsResultSet;
+
+    private ArticlePartitionMaintainer maintainer;
+
+    @BeforeEach
+    public void setup() throws SQLException {
+        lenient().when(dataSource.getConnection()).thenReturn(connection);
+        lenient().when(connection.getMetaData()).thenReturn(metaData);
+        lenient().when(connection.createStatement()).thenReturn(statement);
+        lenient().when(statement.executeQuery(ArticlePartitionMaintainer.PARTITIONED_QUERY))
+            .thenReturn(partitionedResultSet);
+        lenient().when(statement.executeQuery(ArticlePartitionMaintainer.PARTITIONS_QUERY))
+            .thenReturn(partitionsResultSet);
+        var properties = new PartitioningProperties();
+        properties.setMonthsAhead(2);
+        maintainer = new ArticlePartitionMaintainer(dataSource, properties, CLOCK);
+    }
+
+    @Test
+    void createPartitions() throws SQLException {
+        when(metaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+        when(partitionedResultSet.next()).thenReturn(true);
+        when(partitionedResultSet.getBoolean(1)).thenReturn(true);
+        when(partitionsResultSet.next()).thenReturn(true, true, false);
+        when(partitionsResultSet.getString(1)).thenReturn("articles_2026_10", "articles_2026_11");
+
+        maintainer.createPartitions();
+
+        var inOrder = inOrder(statement, connection);
+        inOrder.verify(connection).setAutoCommit(false);
+        inOrder.verify(statement).execute("set local lock_timeout = 5000");
+        inOrder.verify(statement).execute(ArticlePartitionMaintainer.LOCK_QUERY);
+        inOrder.verify(statement).execute("create table articles_2026_12 partition of articles"
+            + " for values from ('2026-12-01') to ('2027-01-01')");
+        inOrder.verify(statement).execute("create table articles_2027_01 partition of articles"
+            + " for values from ('2027-01-01') to ('2027-02-01')");
+        inOrder.verify(connection).commit();
+        verify(statement, never()).execute("create table articles_2026_11 partition of articles"
+            + " for values from ('2026-11-01') to ('2026-12-01')");
+    }
+
+    @Test
+    void createPartitionsWhenFailed() throws SQLException {
+        when(metaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+        when(partitionedResultSet.next()).thenReturn(true);
+        when(partitionedResultSet.getBoolean(1)).thenReturn(true);
+        when(statement.execute(anyString())).thenThrow(new SQLException("canceling statement due to lock timeout"));
+
+        maintainer.createPartitions();
+
+        verify(connection).rollback();
+        verify(connection, never()).commit();
+        verify(connection).setAutoCommit(true);
+    }
+
+    @Test
+    void createPartitionsWhenTableNotPartitioned() throws SQLException {
+        when(metaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+        when(partitionedResultSet.next()).thenReturn(true);
+        when(partitionedResultSet.getBoolean(1)).thenReturn(false);
+
+        maintainer.createPartitions();
+
+        verify(statement, never()).execute(anyString());
+    }
+
+    @Test
+    void createPartitionsForOtherDatabase() throws SQLException {
+        when(metaData.getDatabaseProductName()).thenReturn("H2");
+
+        maintainer.createPartitions();
+
+        verify(connection, never()).createStatement();
+    }
+
+    @Test
+    void partitionName() {
+        assertThat(ArticlePartitionMaintainer.partitionName(YearMonth.of(2027, 3)), is("articles_2027_03"));
+    }
+}
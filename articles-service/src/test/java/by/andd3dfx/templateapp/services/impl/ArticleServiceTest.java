@@ -1,35 +1,61 @@
 package by.andd3dfx.templateapp.services.impl;
 
+import by.andd3dfx.templateapp.dto.ArticleAuthorUpdateDto;
+import by.andd3dfx.templateapp.dto.ArticleChangeDto;
 import by.andd3dfx.templateapp.dto.ArticleDto;
+import by.andd3dfx.templateapp.dto.ArticleSummaryDto;
 import by.andd3dfx.templateapp.dto.ArticleUpdateDto;
+import by.andd3dfx.templateapp.dto.BulkResultDto;
+import by.andd3dfx.templateapp.dto.ImportErrorDto;
+import by.andd3dfx.templateapp.dto.ImportResultDto;
+import by.andd3dfx.templateapp.dto.KeysetPage;
+import by.andd3dfx.templateapp.dto.KeysetSort;
 import by.andd3dfx.templateapp.error.exception.ArticleNotFoundException;
 import by.andd3dfx.templateapp.mappers.ArticleMapper;
 import by.andd3dfx.templateapp.persistence.dao.ArticleRepository;
 import by.andd3dfx.templateapp.persistence.entities.Article;
+import by.andd3dfx.templateapp.util.KeysetCursor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import javax.validation.Validation;
+import javax.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +67,12 @@ class ArticleServiceTest {
     @Mock
     private ArticleMapper articleMapperMock;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @Mock
     private Clock clockMock;
     private Clock fixedClock;
@@ -50,6 +82,10 @@ class ArticleServiceTest {
 
     @BeforeEach
     public void before() {
+        ReflectionTestUtils.setField(articleService, "changesSettleTime", Duration.ofSeconds(15));
+        ReflectionTestUtils.setField(articleService, "exportFetchSize", 500);
+        ReflectionTestUtils.setField(articleService, "importMaxReportedErrors", 2);
+
         fixedClock = Clock.fixed(Instant.parse("2014-12-22T10:15:30.00Z"), ZoneId.systemDefault());
         // Allow unnecessary stubbing:
         lenient().doReturn(fixedClock.instant()).when(clockMock).instant();
@@ -75,6 +111,23 @@ class ArticleServiceTest {
         assertThat(result, is(updatedArticleDto));
     }
 
+    @Test
+    void createAll() {
+        List<ArticleDto> articleDtos = List.of(ArticleDto.builder().build());
+        List<Article> articles = List.of(Article.builder().build());
+        List<Article> savedArticles = List.of(Article.builder().id(1L).build());
+        List<ArticleDto> savedArticleDtos = List.of(ArticleDto.builder().id(1L).build());
+
+        Mockito.when(articleMapperMock.toArticleList(articleDtos)).thenReturn(articles);
+        Mockito.when(articleRepositoryMock.persistAll(articles)).thenReturn(savedArticles);
+        Mockito.when(articleMapperMock.toArticleDtoList(savedArticles)).thenReturn(savedArticleDtos);
+
+        List<ArticleDto> result = articleService.createAll(articleDtos);
+
+        Mockito.verify(articleRepositoryMock).persistAll(articles);
+        assertThat(result, is(savedArticleDtos));
+    }
+
     @Test
     public void get() {
         final Long ARTICLE_ID = 123L;
@@ -109,66 +162,147 @@ class ArticleServiceTest {
     @Test
     void update() {
         final Long ARTICLE_ID = 123L;
-        Article article = new Article();
-        Article savedArticle = new Article();
-        Optional<Article> optionalArticle = Optional.of(article);
-        ArticleUpdateDto articleUpdateDto = new ArticleUpdateDto();
-        ArticleDto updatedArticleDto = ArticleDto.builder()
+        ArticleUpdateDto articleUpdateDto = ArticleUpdateDto.builder()
                 .title("New title")
                 .build();
+        Mockito.when(articleRepositoryMock.updateFields(ARTICLE_ID, Map.of("title", "New title"))).thenReturn(1);
 
-        Mockito.when(articleRepositoryMock.findById(ARTICLE_ID)).thenReturn(optionalArticle);
-        Mockito.when(articleRepositoryMock.save(article)).thenReturn(savedArticle);
-        Mockito.when(articleMapperMock.toArticleDto(savedArticle)).thenReturn(updatedArticleDto);
+        articleService.update(ARTICLE_ID, articleUpdateDto);
+
+        Mockito.verify(articleRepositoryMock).updateFields(ARTICLE_ID, Map.of("title", "New title"));
+        Mockito.verify(articleRepositoryMock, Mockito.never()).findById(ARTICLE_ID);
+    }
+
+    @Test
+    void updateSeveralFields() {
+        final Long ARTICLE_ID = 123L;
+        ArticleUpdateDto articleUpdateDto = ArticleUpdateDto.builder()
+                .title("New title")
+                .text("New text")
+                .build();
+        var fields = Map.<String, Object>of("title", "New title", "text", "New text");
+        Mockito.when(articleRepositoryMock.updateFields(ARTICLE_ID, fields)).thenReturn(1);
 
         articleService.update(ARTICLE_ID, articleUpdateDto);
 
-        Mockito.verify(articleRepositoryMock).findById(ARTICLE_ID);
-        Mockito.verify(articleMapperMock).toArticle(articleUpdateDto, article);
-        Mockito.verify(articleRepositoryMock).save(article);
-        Mockito.verify(articleMapperMock).toArticleDto(savedArticle);
+        Mockito.verify(articleRepositoryMock).updateFields(ARTICLE_ID, fields);
+    }
+
+    @Test
+    void updateWithRemovedSummary() {
+        final Long ARTICLE_ID = 123L;
+        ArticleUpdateDto articleUpdateDto = ArticleUpdateDto.builder()
+                .summary(Optional.empty())
+                .text("New text")
+                .build();
+        var fields = new HashMap<String, Object>();
+        fields.put("summary", null);
+        fields.put("text", "New text");
+        Mockito.when(articleRepositoryMock.updateFields(ARTICLE_ID, fields)).thenReturn(1);
+
+        articleService.update(ARTICLE_ID, articleUpdateDto);
+
+        Mockito.verify(articleRepositoryMock).updateFields(ARTICLE_ID, fields);
+    }
+
+    @Test
+    void updateWithoutFields() {
+        final Long ARTICLE_ID = 123L;
+        Mockito.when(articleRepositoryMock.existsById(ARTICLE_ID)).thenReturn(true);
+
+        articleService.update(ARTICLE_ID, new ArticleUpdateDto());
+
+        Mockito.verify(articleRepositoryMock, Mockito.never()).updateFields(any(), any());
+    }
+
+    @Test
+    void updateWithoutFieldsOfAbsentArticle() {
+        final Long ARTICLE_ID = 123L;
+        Mockito.when(articleRepositoryMock.existsById(ARTICLE_ID)).thenReturn(false);
+
+        try {
+            articleService.update(ARTICLE_ID, new ArticleUpdateDto());
+
+            fail("Exception should be thrown");
+        } catch (ArticleNotFoundException ex) {
+            Mockito.verify(articleRepositoryMock).existsById(ARTICLE_ID);
+        }
     }
 
     @Test
     void updateAbsentArticle() {
         final Long ARTICLE_ID = 123L;
-        Optional<Article> optionalArticle = Optional.empty();
-        Mockito.when(articleRepositoryMock.findById(ARTICLE_ID)).thenReturn(optionalArticle);
-        ArticleUpdateDto articleUpdateDto = new ArticleUpdateDto();
+        ArticleUpdateDto articleUpdateDto = ArticleUpdateDto.builder()
+                .summary(Optional.of("New summary"))
+                .build();
+        Mockito.when(articleRepositoryMock.updateFields(ARTICLE_ID, Map.of("summary", "New summary"))).thenReturn(0);
 
         try {
             articleService.update(ARTICLE_ID, articleUpdateDto);
 
             fail("Exception should be thrown");
         } catch (ArticleNotFoundException ex) {
-            Mockito.verify(articleRepositoryMock).findById(ARTICLE_ID);
+            Mockito.verify(articleRepositoryMock).updateFields(ARTICLE_ID, Map.of("summary", "New summary"));
         }
     }
 
     @Test
     void delete() {
         final Long ARTICLE_ID = 123L;
+        Mockito.when(articleRepositoryMock.deleteArticleById(ARTICLE_ID)).thenReturn(1);
 
         articleService.delete(ARTICLE_ID);
 
-        Mockito.verify(articleRepositoryMock).deleteById(ARTICLE_ID);
+        Mockito.verify(articleRepositoryMock).createTombstonesByIds(eq(List.of(ARTICLE_ID)), any());
+        Mockito.verify(articleRepositoryMock).deleteArticleById(ARTICLE_ID);
     }
 
     @Test
     void deleteAbsentArticle() {
         final Long ARTICLE_ID = 123L;
-        Mockito.doThrow(new EmptyResultDataAccessException(1)).when(articleRepositoryMock).deleteById(ARTICLE_ID);
+        Mockito.when(articleRepositoryMock.deleteArticleById(ARTICLE_ID)).thenReturn(0);
 
         try {
             articleService.delete(ARTICLE_ID);
 
             fail("Exception should be thrown");
         } catch (ArticleNotFoundException ex) {
-            Mockito.verify(articleRepositoryMock).deleteById(ARTICLE_ID);
+            Mockito.verify(articleRepositoryMock).deleteArticleById(ARTICLE_ID);
             assertThat("Wrong message", ex.getMessage(), is("Could not find an article by id=" + ARTICLE_ID));
         }
     }
 
+    @Test
+    void deleteAll() {
+        final List<Long> ids = List.of(1L, 2L, 3L);
+        Mockito.when(articleRepositoryMock.deleteArticlesByIds(ids)).thenReturn(2);
+
+        BulkResultDto result = articleService.deleteAll(ids);
+
+        Mockito.verify(articleRepositoryMock).createTombstonesByIds(eq(ids), any());
+        assertThat(result.getAffected(), is(2));
+    }
+
+    @Test
+    void deleteByAuthor() {
+        Mockito.when(articleRepositoryMock.deleteArticlesByAuthor("Some author")).thenReturn(3);
+
+        BulkResultDto result = articleService.deleteByAuthor("Some author");
+
+        Mockito.verify(articleRepositoryMock).createTombstonesByAuthor(eq("Some author"), any());
+        assertThat(result.getAffected(), is(3));
+    }
+
+    @Test
+    void updateAuthor() {
+        Mockito.when(articleRepositoryMock.updateArticlesAuthor(eq("Some author"), eq("New author"), any()))
+            .thenReturn(3);
+
+        BulkResultDto result = articleService.updateAuthor("Some author", new ArticleAuthorUpdateDto("New author"));
+
+        assertThat(result.getAffected(), is(3));
+    }
+
     @Test
     void getAll() {
         final Integer pageNo = 2;
@@ -197,18 +331,258 @@ class ArticleServiceTest {
         final String sortBy = "title";
         final Pageable pageRequest = PageRequest.of(pageNo, pageSize, Sort.by(sortBy));
 
-        final List<Article> articles = Arrays.asList(new Article());
-        final Slice<Article> pagedResult = new PageImpl<>(articles, pageRequest, articles.size());
-        final List<ArticleDto> articleDtoList = Arrays.asList(new ArticleDto());
+        final List<ArticleSummaryDto> articles = Arrays.asList(new ArticleSummaryDto());
+        final Slice<ArticleSummaryDto> pagedResult = new PageImpl<>(articles, pageRequest, articles.size());
 
-        Mockito.doReturn(pagedResult).when(articleRepositoryMock).findAll(pageRequest);
-        Mockito.doReturn(articleDtoList.get(0)).when(articleMapperMock).toArticleDto(articles.get(0));
+        Mockito.doReturn(pagedResult).when(articleRepositoryMock).findAllSummaries(pageRequest);
 
-        Slice<ArticleDto> result = articleService.getAll(pageRequest);
+        Slice<ArticleSummaryDto> result = articleService.getAll(pageRequest);
 
-        Mockito.verify(articleRepositoryMock).findAll(pageRequest);
-        Mockito.verify(articleMapperMock).toArticleDto(articles.get(0));
+        Mockito.verify(articleRepositoryMock).findAllSummaries(pageRequest);
+        Mockito.verifyNoInteractions(articleMapperMock);
         assertThat(result.getContent().size(), is(1));
-        assertThat(result.getContent().get(0), is(articleDtoList.get(0)));
+        assertThat(result.getContent().get(0), is(articles.get(0)));
+    }
+
+    @Test
+    void scrollFirstPage() {
+        final ArticleSummaryDto lastArticle = ArticleSummaryDto.builder().id(7L).title("Some title").build();
+        final List<ArticleSummaryDto> articles = List.of(new ArticleSummaryDto(), lastArticle, new ArticleSummaryDto());
+        Mockito.doReturn(articles).when(articleRepositoryMock)
+            .findNextPage(null, "title", Sort.Direction.ASC, null, null, 3);
+
+        KeysetPage<ArticleSummaryDto> result = articleService.scroll(null, KeysetSort.TITLE, Sort.Direction.ASC, 2,
+            null);
+
+        assertThat(result.getContent(), is(articles.subList(0, 2)));
+        assertThat(result.getSize(), is(2));
+        assertThat(KeysetCursor.decode(result.getNextCursor()),
+            is(new KeysetCursor(KeysetSort.TITLE, Sort.Direction.ASC, "Some title", 7L)));
+    }
+
+    @Test
+    void scrollLastPage() {
+        final LocalDateTime dateCreated = LocalDateTime.parse("2014-12-22T10:15:30");
+        final String cursor = new KeysetCursor(KeysetSort.DATE_CREATED, Sort.Direction.DESC, dateCreated, 5L).encode();
+        final List<ArticleSummaryDto> articles = List.of(new ArticleSummaryDto());
+        Mockito.doReturn(articles).when(articleRepositoryMock)
+            .findNextPage(null, "dateCreated", Sort.Direction.DESC, dateCreated, 5L, 3);
+
+        // Sort & direction of cursor take precedence
+        KeysetPage<ArticleSummaryDto> result = articleService.scroll(null, KeysetSort.TITLE, Sort.Direction.ASC, 2,
+            cursor);
+
+        assertThat(result.getContent(), is(articles));
+        assertThat(result.getNextCursor(), nullValue());
+    }
+
+    @Test
+    void export() throws Exception {
+        Article article = Article.builder().id(1L).build();
+        Article article2 = Article.builder().id(2L).build();
+        Mockito.when(articleRepositoryMock.streamAll(500)).thenReturn(Stream.of(article, article2));
+        Mockito.when(articleMapperMock.toArticleDto(article))
+            .thenReturn(ArticleDto.builder().id(1L).title("Some title").build());
+        Mockito.when(articleMapperMock.toArticleDto(article2))
+            .thenReturn(ArticleDto.builder().id(2L).title("Another title").build());
+        var outputStream = new ByteArrayOutputStream();
+
+        articleService.export(outputStream);
+
+        assertThat(outputStream.toString(StandardCharsets.UTF_8),
+            is("{\"id\":1,\"title\":\"Some title\"}\n{\"id\":2,\"title\":\"Another title\"}\n"));
+    }
+
+    @Test
+    void importNdjson() {
+        var input = "{\"title\":\"Title 1\",\"text\":\"Text\",\"author\":\"Author\"}\n"
+            + "{\"title\":\"\",\"text\":\"Text\"}\n"
+            + "{\"title\":\"Title 3\",\"text\":\n"
+            + "{\"title\":\"Title 4\",\"text\":\"Text\\u0000\",\"author\":\"Author\"}\n"
+            + "{\"title\":\"Title 5\",\"text\":\"Text\",\"author\":\"Author\"}\n";
+        Mockito.when(articleMapperMock.toArticle(any()))
+            .thenAnswer(invocation -> Article.builder().title(invocation.<ArticleDto>getArgument(0).getTitle()).build());
+        Mockito.when(articleRepositoryMock.insertAll(any())).thenAnswer(invocation -> {
+            List<Article> articles = invocation.<Stream<Article>>getArgument(0).collect(Collectors.toList());
+            assertThat(articles.size(), is(2));
+            assertThat(articles.get(0).getTitle(), is("Title 1"));
+            assertThat(articles.get(1).getTitle(), is("Title 5"));
+            return 2L;
+        });
+
+        ImportResultDto result = articleService.importNdjson(toInputStream(input));
+
+        assertThat(result.getImported(), is(2L));
+        assertThat(result.getFailed(), is(3L));
+        assertThat("Only the first errors should be reported", result.getErrors(), is(List.of(
+            new ImportErrorDto(2, "Author should be populated; Title length must be between 1 and 100"),
+            new ImportErrorDto(3, "Unexpected end-of-input within/between Object entries"))));
+    }
+
+    @Test
+    void importNdjsonOfExportedArticles() {
+        var input = "{\"id\":7,\"title\":\"Title 1\",\"text\":\"Text\",\"author\":\"Author\","
+            + "\"dateCreated\":\"2020-01-01T10:00:00\",\"dateUpdated\":\"2020-01-02T10:00:00\"}\n";
+        Mockito.when(articleMapperMock.toArticle(any())).thenReturn(Article.builder().build());
+        Mockito.when(articleRepositoryMock.insertAll(any()))
+            .thenAnswer(invocation -> invocation.<Stream<Article>>getArgument(0).count());
+
+        ImportResultDto result = articleService.importNdjson(toInputStream(input));
+
+        assertThat(result.getImported(), is(1L));
+        assertThat(result.getFailed(), is(0L));
+        var articleDtoCaptor = ArgumentCaptor.forClass(ArticleDto.class);
+        Mockito.verify(articleMapperMock).toArticle(articleDtoCaptor.capture());
+        assertThat(articleDtoCaptor.getValue(), is(ArticleDto.builder()
+            .title("Title 1").text("Text").author("Author").build()));
+    }
+
+    @Test
+    void importCsv() {
+        var input = "title,summary,text,author\n"
+            + "Title 1,,Text,Author\n"
+            + "Title 2,Summary,,Author\n";
+        Mockito.when(articleMapperMock.toArticle(any())).thenReturn(Article.builder().build());
+        Mockito.when(articleRepositoryMock.insertAll(any()))
+            .thenAnswer(invocation -> invocation.<Stream<Article>>getArgument(0).count());
+
+        ImportResultDto result = articleService.importCsv(toInputStream(input));
+
+        assertThat(result.getImported(), is(1L));
+        assertThat(result.getFailed(), is(1L));
+        assertThat(result.getErrors(), is(List.of(new ImportErrorDto(2, "Text should be populated"))));
+    }
+
+    @Test
+    void changes() {
+        var since = LocalDateTime.parse("2020-01-01T10:00:00");
+        var changes = List.of(
+            ArticleChangeDto.builder().id(5L).dateChanged(since.plusMinutes(1)).build(),
+            ArticleChangeDto.builder().id(3L).dateChanged(since.plusMinutes(2)).deleted(true).build(),
+            ArticleChangeDto.builder().id(4L).dateChanged(since.plusMinutes(3)).build());
+        Mockito.doReturn(changes).when(articleRepositoryMock)
+            .findChanges(eq(since), eq(Long.MAX_VALUE), any(), eq(3));
+
+        KeysetPage<ArticleChangeDto> result = articleService.changes(since, 2, null);
+
+        assertThat(result.getContent(), is(changes.subList(0, 2)));
+        assertThat(result.getNextCursor(), is(new KeysetCursor(KeysetSort.DATE_UPDATED, Sort.Direction.ASC,
+            since.plusMinutes(2), 3L).encode()));
+    }
+
+    @Test
+    void changesWithCursor() {
+        var lastDate = LocalDateTime.parse("2020-01-01T10:00:00");
+        var cursor = new KeysetCursor(KeysetSort.DATE_UPDATED, Sort.Direction.ASC, lastDate, 3L).encode();
+        final List<ArticleChangeDto> changes = List.of(new ArticleChangeDto());
+        Mockito.doReturn(changes).when(articleRepositoryMock).findChanges(eq(lastDate), eq(3L), any(), eq(3));
+
+        KeysetPage<ArticleChangeDto> result = articleService.changes(lastDate.minusDays(1), 2, cursor);
+
+        assertThat(result.getContent(), is(changes));
+        assertThat(result.getNextCursor(), nullValue());
+    }
+
+    @Test
+    void changesWithCursorOfScroll() {
+        var cursor = new KeysetCursor(KeysetSort.TITLE, Sort.Direction.ASC, "Some title", 3L).encode();
+
+        try {
+            articleService.changes(null, 2, cursor);
+
+            fail("Exception should be thrown");
+        } catch (IllegalArgumentException ex) {
+            assertThat("Wrong message", ex.getMessage(), is("Invalid cursor: " + cursor));
+        }
+    }
+
+    @Test
+    void scrollArticlesOfAuthor() {
+        final List<ArticleSummaryDto> articles = List.of(new ArticleSummaryDto());
+        Mockito.doReturn(articles).when(articleRepositoryMock)
+            .findNextPage("Some author", "dateCreated", Sort.Direction.DESC, null, null, 3);
+
+        KeysetPage<ArticleSummaryDto> result = articleService.scroll("Some author", KeysetSort.DATE_CREATED,
+            Sort.Direction.DESC, 2, null);
+
+        assertThat(result.getContent(), is(articles));
+        assertThat(result.getNextCursor(), nullValue());
+    }
+
+    @Test
+    void scrollWithCursorOfSearch() {
+        final String cursor = new KeysetCursor(KeysetSort.RANK, Sort.Direction.DESC, 0.5f, 5L).encode();
+
+        try {
+            articleService.scroll(null, KeysetSort.TITLE, Sort.Direction.ASC, 2, cursor);
+
+            fail("Exception should be thrown");
+        } catch (IllegalArgumentException ex) {
+            assertThat(ex.getMessage(), is("Sort by rank is supported by search only"));
+        }
+    }
+
+    @Test
+    void searchFirstPage() {
+        final ArticleSummaryDto lastArticle = ArticleSummaryDto.builder().id(7L).rank(0.25f).build();
+        final List<ArticleSummaryDto> articles = List.of(new ArticleSummaryDto(), lastArticle, new ArticleSummaryDto());
+        Mockito.doReturn(articles).when(articleRepositoryMock).search("котлеты", null, null, 3);
+
+        KeysetPage<ArticleSummaryDto> result = articleService.search("котлеты", 2, null);
+
+        assertThat(result.getContent(), is(articles.subList(0, 2)));
+        assertThat(result.getSize(), is(2));
+        assertThat(KeysetCursor.decode(result.getNextCursor()),
+            is(new KeysetCursor(KeysetSort.RANK, Sort.Direction.DESC, 0.25f, 7L)));
+    }
+
+    @Test
+    void searchLastPage() {
+        final String cursor = new KeysetCursor(KeysetSort.RANK, Sort.Direction.DESC, 0.25f, 7L).encode();
+        final List<ArticleSummaryDto> articles = List.of(new ArticleSummaryDto());
+        Mockito.doReturn(articles).when(articleRepositoryMock).search("котлеты", 0.25f, 7L, 3);
+
+        KeysetPage<ArticleSummaryDto> result = articleService.search("котлеты", 2, cursor);
+
+        assertThat(result.getContent(), is(articles));
+        assertThat(result.getNextCursor(), nullValue());
+    }
+
+    @Test
+    void searchWithCursorOfScroll() {
+        final String cursor = new KeysetCursor(KeysetSort.TITLE, Sort.Direction.ASC, "Some title", 7L).encode();
+
+        try {
+            articleService.search("котлеты", 2, cursor);
+
+            fail("Exception should be thrown");
+        } catch (IllegalArgumentException ex) {
+            assertThat(ex.getMessage(), is("Invalid cursor: " + cursor));
+        }
+    }
+
+    @Test
+    void lookup() {
+        final List<ArticleSummaryDto> articles = List.of(ArticleSummaryDto.builder().id(7L).rank(0.6f).build());
+        Mockito.doReturn(articles).when(articleRepositoryMock).lookup("Дорофй", 0.3f, 10);
+
+        List<ArticleSummaryDto> result = articleService.lookup("Дорофй", 0.3f, 10);
+
+        assertThat(result, is(articles));
+    }
+
+    @Test
+    void scrollWithInvalidCursor() {
+        try {
+            articleService.scroll(null, KeysetSort.TITLE, Sort.Direction.ASC, 2, "wrong-cursor");
+
+            fail("Exception should be thrown");
+        } catch (IllegalArgumentException ex) {
+            assertThat(ex.getMessage(), is("Invalid cursor: wrong-cursor"));
+        }
+    }
+
+    private static ByteArrayInputStream toInputStream(String input) {
+        return new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
     }
 }
@@ -0,0 +1,107 @@
+package by.andd3dfx.templateapp.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+
+import by.andd3dfx.templateapp.util.ArticleRowReader.Row;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class ArticleRowReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void readNdjson() {
+        var input = "{\"title\":\"Title 1\",\"text\":\"Text\",\"author\":\"Author\"}\n"
+            + "\n"
+            + "{\"title\":\"Title 2\",\"text\":\n"
+            + "{\"title\":\"Title 3\",\"summary\":\"Summary\",\"text\":\"Text\",\"author\":\"Author\"}\n";
+
+        List<Row> rows = readNdjson(input);
+
+        assertThat(rows.size(), is(3));
+        assertThat(rows.get(0).getNumber(), is(1L));
+        assertThat(rows.get(0).getArticle().getTitle(), is("Title 1"));
+        assertThat(rows.get(0).getError(), nullValue());
+        assertThat(rows.get(1).getNumber(), is(3L));
+        assertThat(rows.get(1).getArticle(), nullValue());
+        assertThat(rows.get(1).getError(), startsWith("Unexpected end-of-input"));
+        assertThat(rows.get(2).getNumber(), is(4L));
+        assertThat(rows.get(2).getArticle().getSummary(), is("Summary"));
+    }
+
+    @Test
+    void readCsv() {
+        var input = "title,summary,text,author\n"
+            + "Title 1,,Text,Author\n"
+            + "\"Title, 2\",Summary,\"Multiline\ntext\",Author\n"
+            + "\n"
+            + "Title 3,Summary,Text,Author\n";
+
+        List<Row> rows = readCsv(input);
+
+        assertThat(rows.size(), is(3));
+        assertThat(rows.get(0).getNumber(), is(1L));
+        assertThat(rows.get(0).getArticle().getTitle(), is("Title 1"));
+        assertThat("Empty value should be treated as absent", rows.get(0).getArticle().getSummary(), nullValue());
+        assertThat(rows.get(1).getArticle().getTitle(), is("Title, 2"));
+        assertThat(rows.get(1).getArticle().getText(), is("Multiline\ntext"));
+        assertThat(rows.get(2).getNumber(), is(3L));
+        assertThat(rows.get(2).getArticle().getTitle(), is("Title 3"));
+    }
+
+    @Test
+    void readCsvWithInvalidRow() {
+        var input = "title,text,author,id\n"
+            + "Title 1,Text,Author,\n"
+            + "Title 2,Text,Author,not-a-number\n"
+            + "Title 3,Text,Author,\n";
+
+        List<Row> rows = readCsv(input);
+
+        assertThat(rows.size(), is(3));
+        assertThat(rows.get(0).getArticle().getTitle(), is("Title 1"));
+        assertThat(rows.get(1).getNumber(), is(2L));
+        assertThat(rows.get(1).getArticle(), nullValue());
+        assertThat(rows.get(1).getError(), startsWith("Cannot deserialize value of type `java.lang.Long`"));
+        assertThat(rows.get(2).getArticle().getTitle(), is("Title 3"));
+    }
+
+    @Test
+    void readCsvWithMalformedQuoting() {
+        var input = "title,text,author\n"
+            + "Title 1,Text,Author\n"
+            + "\"Title 2,Text,Author\n"
+            + "Title 3,Text,Author\n";
+
+        List<Row> rows = readCsv(input);
+
+        assertThat(rows.size(), is(2));
+        assertThat(rows.get(0).getArticle().getTitle(), is("Title 1"));
+        assertThat(rows.get(1).getNumber(), is(2L));
+        assertThat(rows.get(1).getError(), startsWith("Missing closing quote"));
+    }
+
+    private List<Row> readNdjson(String input) {
+        try (var rows = ArticleRowReader.readNdjson(toInputStream(input), objectMapper)) {
+            return rows.collect(Collectors.toList());
+        }
+    }
+
+    private List<Row> readCsv(String input) {
+        try (var rows = ArticleRowReader.readCsv(toInputStream(input))) {
+            return rows.collect(Collectors.toList());
+        }
+    }
+
+    private static ByteArrayInputStream toInputStream(String input) {
+        return new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,33 @@
+package by.andd3dfx.templateapp.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import by.andd3dfx.templateapp.dto.KeysetSort;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+class KeysetCursorTest {
+
+    @Test
+    void encodeDecodeByTitle() {
+        var cursor = new KeysetCursor(KeysetSort.TITLE, Sort.Direction.ASC, "Title: with separator", 123L);
+
+        assertThat(KeysetCursor.decode(cursor.encode()), is(cursor));
+    }
+
+    @Test
+    void encodeDecodeByDateCreated() {
+        var cursor = new KeysetCursor(KeysetSort.DATE_CREATED, Sort.Direction.DESC,
+            LocalDateTime.parse("2014-12-22T10:15:30.123456"), 123L);
+
+        assertThat(KeysetCursor.decode(cursor.encode()), is(cursor));
+    }
+
+    @Test
+    void decodeInvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not a cursor"));
+    }
+}
@@ -0,0 +1,35 @@
+package by.andd3dfx.templateapp.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class PeriodicTaskTest {
+
+    @Test
+    void startAndStop() throws InterruptedException {
+        var runs = new CountDownLatch(2);
+        var task = new PeriodicTask("periodic-task", runs::countDown, Duration.ofMillis(10));
+
+        task.start();
+        assertThat(task.isRunning(), is(true));
+        assertThat(runs.await(5, TimeUnit.SECONDS), is(true));
+
+        task.stop();
+        assertThat(task.isRunning(), is(false));
+    }
+
+    @Test
+    void stopWhenNotStarted() {
+        var task = new PeriodicTask("periodic-task", () -> {
+        }, Duration.ofSeconds(1));
+
+        task.stop();
+
+        assertThat(task.isRunning(), is(false));
+    }
+}
@@ -0,0 +1,61 @@
+package by.andd3dfx.templateapp.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import by.andd3dfx.templateapp.util.TrigramIndex.Match;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class TrigramIndexTest {
+
+    private final TrigramIndex index = new TrigramIndex(Map.of(
+        1L, List.of("Моя жизнь во Христе", "Иоанн Сергиев"),
+        2L, List.of("Душеполезные поучения", "Авва Дорофей"),
+        3L, List.of("Великое в малом", "Сергей Нилус")));
+
+    @Test
+    void trigrams() {
+        assertThat(TrigramIndex.trigrams("Cat, cat!"), is(List.of("  c", " ca", "cat", "at ", "  c", " ca", "cat", "at ")));
+        assertThat(TrigramIndex.trigrams(" - "), is(List.of()));
+    }
+
+    /**
+     * Expected values are calculated by `word_similarity()` of PostgreSQL.
+     */
+    @Test
+    void wordSimilarity() {
+        assertThat(TrigramIndex.wordSimilarity("word", "two words"), is(0.8f));
+        assertThat(TrigramIndex.wordSimilarity("Кроншт", "Иоанн Кронштадтский"), is(6f / 7));
+        assertThat(TrigramIndex.wordSimilarity("велико малом", "Великое в малом"), is(0.75f));
+        assertThat(TrigramIndex.wordSimilarity("Nilus", "Сергей Нилус"), is(0f));
+    }
+
+    @Test
+    void lookup() {
+        // Typo in author
+        assertThat(index.lookup("Дорофй", 0.5f, 10), is(List.of(new Match(2L, 5f / 7))));
+        // Partial word of title
+        assertThat(index.lookup("Христ", 0.5f, 10), is(List.of(new Match(1L, 5f / 6))));
+    }
+
+    @Test
+    void lookupOrdersBySimilarity() {
+        var matches = index.lookup("Серге", 0.3f, 10);
+
+        // Query is prefix of "Сергей", but not of "Сергиев"
+        assertThat(matches, is(List.of(new Match(3L, 5f / 6), new Match(1L, 4f / 6))));
+    }
+
+    @Test
+    void lookupWithLimit() {
+        assertThat(index.lookup("Серге", 0.3f, 1).size(), is(1));
+    }
+
+    @Test
+    void lookupBelowThreshold() {
+        assertThat(index.lookup("Дорофй", 0.8f, 10), is(List.of()));
+        assertThat(index.lookup("!", 0f, 10), is(List.of()));
+    }
+}
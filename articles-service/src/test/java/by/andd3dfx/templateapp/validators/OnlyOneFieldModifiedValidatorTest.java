@@ -7,6 +7,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Optional;
 import javax.validation.ConstraintValidatorContext;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -40,7 +41,16 @@ class OnlyOneFieldModifiedValidatorTest {
     @Test
     void isValidWhenOneFieldChanged_ForSummary() {
         var articleUpdateDto = ArticleUpdateDto.builder()
-                .summary("Some Summary")
+                .summary(Optional.of("Some Summary"))
+                .build();
+
+        assertThat(onlyOneFieldModifiedValidator.isValid(articleUpdateDto, contextMock), is(true));
+    }
+
+    @Test
+    void isValidWhenOneFieldChanged_ForRemovedSummary() {
+        var articleUpdateDto = ArticleUpdateDto.builder()
+                .summary(Optional.empty())
                 .build();
 
         assertThat(onlyOneFieldModifiedValidator.isValid(articleUpdateDto, contextMock), is(true));
@@ -59,7 +69,7 @@ class OnlyOneFieldModifiedValidatorTest {
     void isValidWhenTwoFieldsChanged() {
         var articleUpdateDto = ArticleUpdateDto.builder()
                 .title("Some Title")
-                .summary("Some Summary")
+                .summary(Optional.of("Some Summary"))
                 .build();
 
         assertThat(onlyOneFieldModifiedValidator.isValid(articleUpdateDto, contextMock), is(false));
@@ -69,7 +79,7 @@ class OnlyOneFieldModifiedValidatorTest {
     void isValidWhenThreeFieldsChanged() {
         var articleUpdateDto = ArticleUpdateDto.builder()
                 .title("Some Title")
-                .summary("Some Summary")
+                .summary(Optional.of("Some Summary"))
                 .text("Some Text")
                 .build();
 
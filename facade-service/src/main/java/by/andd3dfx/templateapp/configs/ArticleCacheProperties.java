@@ -0,0 +1,45 @@
+package by.andd3dfx.templateapp.configs;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings of in-process cache of articles retrieved from Articles Service.
+ */
+@Data
+@ConfigurationProperties(prefix = "articles-service.cache")
+public class ArticleCacheProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Max estimated memory footprint of cached articles.
+     */
+    private DataSize maximumWeight = DataSize.ofMegabytes(64);
+
+    /**
+     * How long article stays in cache after it was loaded.
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+    private Pages pages = new Pages();
+
+    /**
+     * Settings of cache of article pages (page, size, sort).
+     */
+    @Data
+    public static class Pages {
+
+        /**
+         * Max amount of distinct cached pages.
+         */
+        private long maximumSize = 1000;
+
+        /**
+         * Pages are cached for short time only, because articles could be modified bypassing Facade Service.
+         */
+        private Duration expireAfterWrite = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,58 @@
+package by.andd3dfx.templateapp.configs;
+
+import by.andd3dfx.templateapp.dto.ArticleDto;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caffeine (W-TinyLFU eviction) caches for responses of Articles Service.
+ * <p>
+ * Caches record statistics, which are exposed as `cache.*` metrics (gets by hit/miss result, puts, evictions, size).
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(ArticleCacheProperties.class)
+@ConditionalOnProperty(name = "articles-service.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheConfig {
+
+    public static final String ARTICLES_CACHE = "articles";
+    public static final String ARTICLE_PAGES_CACHE = "article-pages";
+
+    /**
+     * Rough per-entry overhead (key, entry, DTO and its dates), so amount of entries is bounded as well.
+     */
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    @Bean
+    public CacheManager cacheManager(ArticleCacheProperties properties) {
+        var cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(ARTICLES_CACHE, Caffeine.newBuilder()
+            .maximumWeight(properties.getMaximumWeight().toBytes())
+            .weigher((Object id, Object article) -> articleWeight((ArticleDto) article))
+            .expireAfterWrite(properties.getExpireAfterWrite())
+            .recordStats()
+            .build());
+        cacheManager.registerCustomCache(ARTICLE_PAGES_CACHE, Caffeine.newBuilder()
+            .maximumSize(properties.getPages().getMaximumSize())
+            .expireAfterWrite(properties.getPages().getExpireAfterWrite())
+            .recordStats()
+            .build());
+        return cacheManager;
+    }
+
+    /**
+     * Estimated size of article in bytes: text fields take most of the memory (2 bytes per char in the worst case).
+     */
+    static int articleWeight(ArticleDto article) {
+        long chars = (long) StringUtils.length(article.getTitle()) + StringUtils.length(article.getSummary())
+            + StringUtils.length(article.getText()) + StringUtils.length(article.getAuthor());
+        return (int) Math.min(Integer.MAX_VALUE, ENTRY_OVERHEAD_BYTES + 2 * chars);
+    }
+}
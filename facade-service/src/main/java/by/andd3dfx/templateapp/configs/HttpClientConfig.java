@@ -0,0 +1,143 @@
+package by.andd3dfx.templateapp.configs;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.net.http.HttpClient.Version;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLContext;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * HTTP client for calls to Articles Service: pooled keep-alive HTTP/1.1 client or HTTP/2 client,
+ * depending on `articles-service.http-version` property.
+ * <p>
+ * {@link SSLContext} is provided by {@link RestConfig} or {@link UnsecureRestConfig} depending on active profile.
+ */
+@Configuration
+@EnableConfigurationProperties(HttpClientProperties.class)
+public class HttpClientConfig {
+
+    /**
+     * HTTP/2 over TLS: concurrent requests are multiplexed over single connection to Articles Service.
+     * <p>
+     * In virtual threads mode, client's internal tasks (response handling) run on virtual threads as well.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "articles-service.http-version", havingValue = "HTTP_2")
+    public RestTemplate http2RestTemplate(SSLContext sslContext, HttpClientProperties properties,
+        @Value("${virtual-threads.enabled:false}") boolean virtualThreads) {
+        configureSessionCache(sslContext, properties);
+        var httpClientBuilder = java.net.http.HttpClient.newBuilder()
+            .version(Version.HTTP_2)
+            .sslContext(sslContext)
+            .connectTimeout(properties.getConnectTimeout());
+        if (virtualThreads) {
+            httpClientBuilder.executor(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("articles-http2-vt-", 0).factory()));
+        }
+        var factory = new JdkClientHttpRequestFactory(httpClientBuilder.build(), properties.getSocketTimeout());
+
+        return new RestTemplate(factory);
+    }
+
+    /**
+     * HTTP/1.1 transport (default): Apache client with pool of keep-alive connections.
+     * Its beans aren't created for HTTP/2 transport, so unused pool isn't registered in metrics.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = "articles-service.http-version", havingValue = "HTTP_1_1", matchIfMissing = true)
+    static class PooledHttpClientConfig {
+
+        /**
+         * Same SSLContext (and so its client session cache) is used for all connections,
+         * which allows to resume TLS sessions instead of making full handshakes.
+         */
+        @Bean
+        public MeteredSSLConnectionSocketFactory sslSocketFactory(SSLContext sslContext,
+            HttpClientProperties properties) {
+            configureSessionCache(sslContext, properties);
+            return new MeteredSSLConnectionSocketFactory(sslContext);
+        }
+
+        @Bean(destroyMethod = "close")
+        public PoolingHttpClientConnectionManager connectionManager(
+            MeteredSSLConnectionSocketFactory sslSocketFactory, HttpClientProperties properties) {
+            var socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", sslSocketFactory)
+                .build();
+
+            var connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+            connectionManager.setMaxTotal(properties.getMaxTotal());
+            connectionManager.setDefaultMaxPerRoute(properties.getMaxPerRoute());
+            connectionManager.setValidateAfterInactivity((int) properties.getValidateAfterInactivity().toMillis());
+            return connectionManager;
+        }
+
+        @Bean
+        public HttpClient httpClient(PoolingHttpClientConnectionManager connectionManager,
+            HttpClientProperties properties) {
+            var requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout((int) properties.getConnectionRequestTimeout().toMillis())
+                .setConnectTimeout((int) properties.getConnectTimeout().toMillis())
+                .setSocketTimeout((int) properties.getSocketTimeout().toMillis())
+                .build();
+
+            return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy(keepAliveStrategy(properties))
+                .evictExpiredConnections()
+                .evictIdleConnections(properties.getMaxIdleTime().toMillis(), TimeUnit.MILLISECONDS)
+                .build();
+        }
+
+        @Bean
+        public RestTemplate restTemplate(HttpClient httpClient) {
+            var factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+
+            return new RestTemplate(factory);
+        }
+
+        /**
+         * Exposes `httpcomponents.httpclient.pool.*` metrics: leased/available connections and pending lease requests.
+         */
+        @Bean
+        public MeterBinder connectionPoolMetrics(PoolingHttpClientConnectionManager connectionManager) {
+            return new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "articles-service");
+        }
+
+        /**
+         * Honor `Keep-Alive` header of response, otherwise keep connection alive for configured duration
+         * (default strategy of HttpClient keeps it forever).
+         */
+        private ConnectionKeepAliveStrategy keepAliveStrategy(HttpClientProperties properties) {
+            return (response, context) -> {
+                long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                return duration > 0 ? duration : properties.getKeepAlive().toMillis();
+            };
+        }
+    }
+
+    private static void configureSessionCache(SSLContext sslContext, HttpClientProperties properties) {
+        var sessionContext = sslContext.getClientSessionContext();
+        sessionContext.setSessionCacheSize(properties.getSslSessionCacheSize());
+        sessionContext.setSessionTimeout((int) properties.getSslSessionTimeout().toSeconds());
+    }
+}
@@ -0,0 +1,57 @@
+package by.andd3dfx.templateapp.configs;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of pooled HTTP client used for calls to Articles Service.
+ */
+@Data
+@ConfigurationProperties(prefix = "articles-service.http-client")
+public class HttpClientProperties {
+
+    /**
+     * Max amount of connections in pool.
+     */
+    private int maxTotal = 200;
+
+    /**
+     * Max amount of connections per route (host:port).
+     */
+    private int maxPerRoute = 100;
+
+    /**
+     * How long to wait for a free connection from pool.
+     */
+    private Duration connectionRequestTimeout = Duration.ofSeconds(5);
+
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    private Duration socketTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Period of inactivity after which persistent connection is re-validated before leasing.
+     */
+    private Duration validateAfterInactivity = Duration.ofSeconds(2);
+
+    /**
+     * Connections idle longer than this are closed by background evictor.
+     */
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+
+    /**
+     * Keep-alive duration used when server doesn't send `Keep-Alive` header.
+     */
+    private Duration keepAlive = Duration.ofSeconds(60);
+
+    /**
+     * Max amount of cached TLS sessions (0 means no limit).
+     */
+    private int sslSessionCacheSize = 1000;
+
+    /**
+     * How long cached TLS session could be used for resumption.
+     */
+    private Duration sslSessionTimeout = Duration.ofHours(24);
+}
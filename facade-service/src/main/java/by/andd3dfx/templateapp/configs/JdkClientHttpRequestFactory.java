@@ -0,0 +1,149 @@
+package by.andd3dfx.templateapp.configs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.Set;
+import java.util.TreeSet;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * {@link ClientHttpRequestFactory} based on JDK {@link HttpClient}.
+ * <p>
+ * In contrast with HttpComponents client, it is able to talk HTTP/2, so concurrent requests
+ * to Articles Service are multiplexed over single connection instead of one connection per in-flight request.
+ */
+public class JdkClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+    /**
+     * Headers which are set by {@link HttpClient} itself and couldn't be passed to {@link HttpRequest.Builder}.
+     */
+    private static final Set<String> RESTRICTED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        RESTRICTED_HEADERS.addAll(Set.of(HttpHeaders.CONNECTION, HttpHeaders.CONTENT_LENGTH, HttpHeaders.EXPECT,
+            HttpHeaders.HOST, HttpHeaders.UPGRADE));
+    }
+
+    private final HttpClient httpClient;
+    private final Duration readTimeout;
+
+    public JdkClientHttpRequestFactory(HttpClient httpClient, Duration readTimeout) {
+        this.httpClient = httpClient;
+        this.readTimeout = readTimeout;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+        return new JdkClientHttpRequest(uri, httpMethod);
+    }
+
+    private class JdkClientHttpRequest extends AbstractClientHttpRequest {
+
+        private final URI uri;
+        private final HttpMethod method;
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+
+        JdkClientHttpRequest(URI uri, HttpMethod method) {
+            this.uri = uri;
+            this.method = method;
+        }
+
+        @Override
+        public String getMethodValue() {
+            return method.name();
+        }
+
+        @Override
+        public URI getURI() {
+            return uri;
+        }
+
+        @Override
+        protected OutputStream getBodyInternal(HttpHeaders headers) {
+            return body;
+        }
+
+        @Override
+        protected ClientHttpResponse executeInternal(HttpHeaders headers) throws IOException {
+            var builder = HttpRequest.newBuilder(uri)
+                .timeout(readTimeout)
+                .method(method.name(), body.size() > 0
+                    ? BodyPublishers.ofByteArray(body.toByteArray())
+                    : BodyPublishers.noBody());
+            headers.forEach((name, values) -> {
+                if (!RESTRICTED_HEADERS.contains(name)) {
+                    values.forEach(value -> builder.header(name, value));
+                }
+            });
+
+            try {
+                return new JdkClientHttpResponse(httpClient.send(builder.build(), BodyHandlers.ofInputStream()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Request to " + uri + " was interrupted", e);
+            }
+        }
+    }
+
+    private static class JdkClientHttpResponse implements ClientHttpResponse {
+
+        private final HttpResponse<InputStream> response;
+        private final HttpHeaders headers = new HttpHeaders();
+
+        JdkClientHttpResponse(HttpResponse<InputStream> response) {
+            this.response = response;
+            response.headers().map().forEach(headers::addAll);
+        }
+
+        @Override
+        public HttpStatus getStatusCode() {
+            return HttpStatus.valueOf(response.statusCode());
+        }
+
+        @Override
+        public int getRawStatusCode() {
+            return response.statusCode();
+        }
+
+        @Override
+        public String getStatusText() {
+            // HTTP/2 has no reason phrase
+            HttpStatus status = HttpStatus.resolve(response.statusCode());
+            return status != null ? status.getReasonPhrase() : "";
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return response.body();
+        }
+
+        @Override
+        public void close() {
+            try {
+                response.body().close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package by.andd3dfx.templateapp.configs;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocket;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * SSL socket factory which records duration of TLS handshakes to `articles-service.tls.handshake` timer,
+ * tagged by `type`: `full` or `resumed`.
+ * <p>
+ * Handshake considered as resumed when negotiated session was created before handshake started,
+ * so it was taken from session cache of {@link SSLContext}.
+ */
+public class MeteredSSLConnectionSocketFactory extends SSLConnectionSocketFactory implements MeterBinder {
+
+    private static final String TIMER_NAME = "articles-service.tls.handshake";
+
+    private volatile Timer fullHandshakeTimer;
+    private volatile Timer resumedHandshakeTimer;
+
+    public MeteredSSLConnectionSocketFactory(SSLContext sslContext) {
+        super(sslContext);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        fullHandshakeTimer = buildTimer("full", meterRegistry);
+        resumedHandshakeTimer = buildTimer("resumed", meterRegistry);
+    }
+
+    @Override
+    public Socket createLayeredSocket(Socket socket, String target, int port, HttpContext context)
+        throws IOException {
+        long startMillis = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+
+        Socket sslSocket = super.createLayeredSocket(socket, target, port, context);
+
+        long duration = System.nanoTime() - startNanos;
+        boolean resumed = ((SSLSocket) sslSocket).getSession().getCreationTime() < startMillis;
+        Timer timer = resumed ? resumedHandshakeTimer : fullHandshakeTimer;
+        if (timer != null) {
+            timer.record(duration, TimeUnit.NANOSECONDS);
+        }
+        return sslSocket;
+    }
+
+    private static Timer buildTimer(String type, MeterRegistry meterRegistry) {
+        return Timer.builder(TIMER_NAME)
+            .description("TLS handshakes with Articles Service")
+            .tag("type", type)
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+    }
+}
@@ -1,17 +1,12 @@
 package by.andd3dfx.templateapp.configs;
 
 import javax.net.ssl.SSLContext;
-import org.apache.http.client.HttpClient;
-import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
-import org.apache.http.impl.client.HttpClients;
 import org.apache.http.ssl.SSLContextBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.core.io.Resource;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
-import org.springframework.web.client.RestTemplate;
 
 @Profile("!unsecure")
 @Configuration
@@ -24,19 +19,9 @@ public class RestConfig {
     private String trustStorePassword;
 
     @Bean
-    public RestTemplate restTemplate() throws Exception {
-        SSLContext sslContext = new SSLContextBuilder()
+    public SSLContext sslContext() throws Exception {
+        return new SSLContextBuilder()
             .loadTrustMaterial(trustStore.getURL(), trustStorePassword.toCharArray())
             .build();
-
-        SSLConnectionSocketFactory socketFactory = new SSLConnectionSocketFactory(sslContext);
-
-        HttpClient httpClient = HttpClients.custom()
-            .setSSLSocketFactory(socketFactory)
-            .build();
-
-        var factory = new HttpComponentsClientHttpRequestFactory(httpClient);
-
-        return new RestTemplate(factory);
     }
 }
@@ -2,38 +2,21 @@ package by.andd3dfx.templateapp.configs;
 
 import java.security.cert.X509Certificate;
 import javax.net.ssl.SSLContext;
-import org.apache.http.client.HttpClient;
-import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
-import org.apache.http.impl.client.HttpClients;
 import org.apache.http.ssl.SSLContextBuilder;
 import org.apache.http.ssl.TrustStrategy;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
-import org.springframework.core.io.Resource;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
-import org.springframework.web.client.RestTemplate;
 
 @Profile("unsecure")
 @Configuration
 public class UnsecureRestConfig {
 
     @Bean
-    public RestTemplate restTemplate() throws Exception {
-        TrustStrategy trustStrategy = (X509Certificate[] chain, String authType) -> true;;
-        SSLContext sslContext = new SSLContextBuilder()
+    public SSLContext sslContext() throws Exception {
+        TrustStrategy trustStrategy = (X509Certificate[] chain, String authType) -> true;
+        return new SSLContextBuilder()
             .loadTrustMaterial(trustStrategy)
             .build();
-
-        SSLConnectionSocketFactory socketFactory = new SSLConnectionSocketFactory(sslContext);
-
-        HttpClient httpClient = HttpClients.custom()
-            .setSSLSocketFactory(socketFactory)
-            .build();
-
-        var factory = new HttpComponentsClientHttpRequestFactory(httpClient);
-
-        return new RestTemplate(factory);
     }
 }
@@ -0,0 +1,54 @@
+package by.andd3dfx.templateapp.configs;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.JdkSslContext;
+import javax.net.ssl.SSLContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Non-blocking {@link WebClient} (Reactor Netty) for calls to Articles Service.
+ * <p>
+ * TLS is configured with the same {@link SSLContext} as blocking client, so trust store is shared.
+ */
+@Profile("reactive")
+@Configuration
+public class WebClientConfig {
+
+    /**
+     * Exposes `reactor.netty.connection.provider.*` metrics: active/idle connections and pending acquires.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider connectionProvider(HttpClientProperties properties) {
+        return ConnectionProvider.builder("articles-service")
+            .maxConnections(properties.getMaxPerRoute())
+            .pendingAcquireTimeout(properties.getConnectionRequestTimeout())
+            .maxIdleTime(properties.getMaxIdleTime())
+            .evictInBackground(properties.getMaxIdleTime())
+            .metrics(true)
+            .build();
+    }
+
+    @Bean
+    public WebClient articlesWebClient(WebClient.Builder webClientBuilder, SSLContext sslContext,
+        ConnectionProvider connectionProvider, HttpClientProperties properties,
+        @Value("${articles-service.articles-url}") String articlesServiceUrl) {
+        var nettySslContext = new JdkSslContext(sslContext, true, ClientAuth.NONE);
+        var httpClient = HttpClient.create(connectionProvider)
+            .secure(sslContextSpec -> sslContextSpec.sslContext(nettySslContext))
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+            .responseTimeout(properties.getSocketTimeout());
+
+        return webClientBuilder
+            .baseUrl(articlesServiceUrl)
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .build();
+    }
+}
@@ -1,7 +1,12 @@
 package by.andd3dfx.templateapp.controllers;
 
+import by.andd3dfx.templateapp.dto.ArticleAuthorUpdateDto;
+import by.andd3dfx.templateapp.dto.ArticleChangesResult;
 import by.andd3dfx.templateapp.dto.ArticleDto;
+import by.andd3dfx.templateapp.dto.ArticleSummaryDto;
 import by.andd3dfx.templateapp.dto.ArticleUpdateDto;
+import by.andd3dfx.templateapp.dto.BulkResultDto;
+import by.andd3dfx.templateapp.dto.KeysetPageResult;
 import by.andd3dfx.templateapp.dto.PageResult;
 import by.andd3dfx.templateapp.services.IArticleService;
 import io.swagger.annotations.ApiImplicitParam;
@@ -10,9 +15,16 @@ import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
+import java.time.LocalDateTime;
+import java.util.List;
 import javax.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -24,7 +36,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+@Profile("!reactive")
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/articles")
@@ -46,6 +60,21 @@ public class ArticleController {
         return articleService.create(newArticleDto);
     }
 
+    @ApiOperation(value = "Create batch of new articles in single transaction", response = ArticleDto.class,
+        responseContainer = "List")
+    @ApiResponses(value = {
+        @ApiResponse(code = 201, message = "Articles successfully created"),
+        @ApiResponse(code = 400, message = "Some of articles are invalid, none of articles created"),
+    })
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<ArticleDto> createArticles(
+        @ApiParam("New articles' data")
+        @RequestBody List<ArticleDto> newArticleDtos
+    ) {
+        return articleService.createAll(newArticleDtos);
+    }
+
     @ApiOperation(value = "Get article by id", response = ArticleDto.class)
     @ApiResponses(value = {
         @ApiResponse(code = 200, message = "Article successfully retrieved"),
@@ -77,6 +106,23 @@ public class ArticleController {
         articleService.update(id, articleUpdateDto);
     }
 
+    @ApiOperation("Update several fields of article at once by JSON Merge Patch")
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Article successfully updated"),
+        @ApiResponse(code = 404, message = "Article not found"),
+    })
+    @PatchMapping(value = "/{id}", consumes = ArticleUpdateDto.MERGE_PATCH_JSON_VALUE)
+    public void patchArticle(
+        @ApiParam("Article's id")
+        @NotNull
+        @PathVariable Long id,
+        @ApiParam("Updated fields of article")
+        @Validated
+        @RequestBody ArticleUpdateDto articleUpdateDto
+    ) {
+        articleService.patch(id, articleUpdateDto);
+    }
+
     @ApiOperation("Delete article by id")
     @ApiResponses(value = {
         @ApiResponse(code = 204, message = "Article successfully deleted"),
@@ -92,6 +138,45 @@ public class ArticleController {
         articleService.delete(id);
     }
 
+    @ApiOperation(value = "Delete articles by ids", response = BulkResultDto.class)
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Articles successfully deleted, absent ids are ignored"),
+    })
+    @DeleteMapping(params = "ids")
+    public BulkResultDto deleteArticles(
+        @ApiParam("Articles' ids")
+        @RequestParam List<Long> ids
+    ) {
+        return articleService.deleteAll(ids);
+    }
+
+    @ApiOperation(value = "Delete all articles of author", response = BulkResultDto.class)
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Articles successfully deleted"),
+    })
+    @DeleteMapping(params = "author")
+    public BulkResultDto deleteArticlesByAuthor(
+        @ApiParam("Author of articles")
+        @RequestParam String author
+    ) {
+        return articleService.deleteByAuthor(author);
+    }
+
+    @ApiOperation(value = "Change author of all articles of author", response = BulkResultDto.class)
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Articles successfully updated"),
+    })
+    @PatchMapping(params = "author")
+    public BulkResultDto updateArticlesAuthor(
+        @ApiParam("Current author of articles")
+        @RequestParam String author,
+        @ApiParam("New author")
+        @Validated
+        @RequestBody ArticleAuthorUpdateDto articleAuthorUpdateDto
+    ) {
+        return articleService.updateAuthor(author, articleAuthorUpdateDto);
+    }
+
     @ApiOperation(value = "Read articles paged", response = PageResult.class)
     @ApiResponses(value = {
         @ApiResponse(code = 200, message = "Articles successfully retrieved"),
@@ -104,4 +189,93 @@ public class ArticleController {
     ) {
         return articleService.readArticles(page, size, sortBy);
     }
+
+    @ApiOperation(value = "Read articles using keyset pagination", response = KeysetPageResult.class)
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Articles successfully retrieved"),
+        @ApiResponse(code = 409, message = "Invalid cursor"),
+    })
+    @GetMapping("/scroll")
+    public KeysetPageResult readArticlesScrolled(
+        @ApiParam("Author of articles, absent for articles of all authors")
+        @RequestParam(required = false) String author,
+        @ApiParam("Sort key: TITLE, DATE_CREATED or DATE_UPDATED, ignored when cursor is present")
+        @RequestParam(defaultValue = "TITLE") String sortBy,
+        @ApiParam("Sort direction: ASC or DESC, ignored when cursor is present")
+        @RequestParam(defaultValue = "ASC") String direction,
+        @ApiParam("Number of records per page")
+        @RequestParam(defaultValue = "50") Integer size,
+        @ApiParam("Cursor from previous page (`nextCursor`), absent for the first page")
+        @RequestParam(required = false) String cursor
+    ) {
+        return articleService.scrollArticles(author, sortBy, direction, size, cursor);
+    }
+
+    @ApiOperation(value = "Read articles updated or deleted since given date & time, the oldest change first",
+        response = ArticleChangesResult.class)
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Changes successfully retrieved"),
+        @ApiResponse(code = 409, message = "Invalid cursor"),
+    })
+    @GetMapping("/changes")
+    public ArticleChangesResult readChanges(
+        @ApiParam("Date & time of the last known change (`dateChanged`), absent to get all articles; "
+            + "ignored when cursor is present")
+        @DateTimeFormat(iso = ISO.DATE_TIME)
+        @RequestParam(required = false) LocalDateTime since,
+        @ApiParam("Number of records per page")
+        @RequestParam(defaultValue = "50") Integer size,
+        @ApiParam("Cursor from previous page (`nextCursor`), absent for the first page")
+        @RequestParam(required = false) String cursor
+    ) {
+        return articleService.readChanges(since, size, cursor);
+    }
+
+    @ApiOperation(value = "Export all articles as NDJSON (one article per line), in order of id")
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Articles successfully exported"),
+    })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportArticles() {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(articleService::exportArticles);
+    }
+
+    @ApiOperation(value = "Search articles by words of title, summary and text, the most relevant first",
+        response = KeysetPageResult.class)
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Articles successfully retrieved"),
+        @ApiResponse(code = 400, message = "Empty search query"),
+        @ApiResponse(code = 409, message = "Invalid cursor"),
+    })
+    @GetMapping("/search")
+    public KeysetPageResult searchArticles(
+        @ApiParam("Search query: words, \"quoted phrase\", `or` between alternatives, `-` before excluded word")
+        @RequestParam String q,
+        @ApiParam("Number of records per page")
+        @RequestParam(defaultValue = "50") Integer size,
+        @ApiParam("Cursor from previous page (`nextCursor`), absent for the first page")
+        @RequestParam(required = false) String cursor
+    ) {
+        return articleService.searchArticles(q, size, cursor);
+    }
+
+    @ApiOperation(value = "Fuzzy lookup of articles by title and author, the most similar first",
+        response = ArticleSummaryDto.class, responseContainer = "List")
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Articles successfully retrieved"),
+        @ApiResponse(code = 400, message = "Empty query or invalid threshold or limit"),
+    })
+    @GetMapping("/lookup")
+    public List<ArticleSummaryDto> lookupArticles(
+        @ApiParam("Words of title or author, possibly partial or misspelled")
+        @RequestParam String q,
+        @ApiParam("Min similarity of title or author to query, from 0 to 1")
+        @RequestParam(defaultValue = "0.3") Float threshold,
+        @ApiParam("Max number of records")
+        @RequestParam(defaultValue = "10") Integer limit
+    ) {
+        return articleService.lookupArticles(q, threshold, limit);
+    }
 }
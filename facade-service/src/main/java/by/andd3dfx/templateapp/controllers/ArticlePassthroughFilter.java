@@ -0,0 +1,163 @@
+package by.andd3dfx.templateapp.controllers;
+
+import by.andd3dfx.templateapp.dto.PageResult;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * Passthrough mode for read endpoints of {@link ArticleController}: response of Articles Service is streamed
+ * to client without deserialization into DTOs and serialization back.
+ * <p>
+ * Responses are the same as in usual mode: article is relayed as is (it has the same fields), page of articles
+ * is filtered token by token down to fields of {@link PageResult}. Errors of calls to Articles Service are handled
+ * by the same exception handlers as errors of controller. Caches of articles and coalescing of concurrent reads
+ * are bypassed in this mode: every request is a call to Articles Service.
+ * <p>
+ * Request parameters are translated the same way as {@link ArticleController} does (`sortBy` -> `sort`);
+ * other requests go to controller as usual.
+ */
+@Component
+@ConditionalOnProperty(name = "articles-service.passthrough.enabled", havingValue = "true")
+public class ArticlePassthroughFilter extends OncePerRequestFilter {
+
+    private static final Pattern ARTICLES_PATH = Pattern.compile("/api/v1/articles(/\\d+)?/?");
+    private static final List<String> PAGE_FIELDS = List.of("size", "number", "totalPages", "totalElements");
+
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    @Value("${articles-service.articles-url}")
+    private String articlesServiceUrl;
+
+    public ArticlePassthroughFilter(RestTemplate restTemplate, ObjectMapper objectMapper,
+        @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+            || !ARTICLES_PATH.matcher(urlPathHelper.getPathWithinApplication(request)).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        String id = findId(request);
+        URI uri = id != null ? URI.create(articlesServiceUrl + "/" + id) : buildPageUri(request);
+        if (uri == null) {
+            // Invalid parameters, let controller report it
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        try {
+            restTemplate.execute(uri, HttpMethod.GET,
+                clientRequest -> clientRequest.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                clientResponse -> {
+                    response.setStatus(clientResponse.getRawStatusCode());
+                    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                    if (id != null) {
+                        long contentLength = clientResponse.getHeaders().getContentLength();
+                        if (contentLength >= 0) {
+                            response.setContentLengthLong(contentLength);
+                        }
+                        StreamUtils.copy(clientResponse.getBody(), response.getOutputStream());
+                    } else {
+                        copyPage(clientResponse.getBody(), response.getOutputStream());
+                    }
+                    return null;
+                });
+        } catch (RestClientException ex) {
+            // The same handling as for errors of controller, unhandled ones go to container as well
+            if (response.isCommitted()
+                || handlerExceptionResolver.resolveException(request, response, null, ex) == null) {
+                throw ex;
+            }
+        }
+    }
+
+    private String findId(HttpServletRequest request) {
+        String path = StringUtils.removeEnd(urlPathHelper.getPathWithinApplication(request), "/");
+        return StringUtils.defaultIfEmpty(StringUtils.substringAfter(path, "/api/v1/articles/"), null);
+    }
+
+    /**
+     * Sort is encoded as URI variable, so reserved chars (like `&` or `{`) can't add or break query parameters.
+     */
+    private URI buildPageUri(HttpServletRequest request) {
+        String page = StringUtils.defaultIfEmpty(request.getParameter("page"), "0");
+        String size = StringUtils.defaultIfEmpty(request.getParameter("size"), "50");
+        if (!StringUtils.isNumeric(page) || !StringUtils.isNumeric(size)) {
+            return null;
+        }
+        return UriComponentsBuilder.fromHttpUrl(articlesServiceUrl)
+            .queryParam("page", page)
+            .queryParam("size", size)
+            .queryParam("sort", "{sort}")
+            .encode()
+            .buildAndExpand(StringUtils.defaultIfEmpty(request.getParameter("sortBy"), "title"))
+            .toUri();
+    }
+
+    /**
+     * Articles of `content` are copied as they are read, other fields of page of Articles Service
+     * are dropped except for fields of {@link PageResult}, which are written after content in the same order.
+     */
+    private void copyPage(InputStream inputStream, OutputStream outputStream) throws IOException {
+        Map<String, Integer> pageFields = new HashMap<>();
+        try (JsonParser parser = objectMapper.createParser(inputStream);
+            JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            parser.nextToken();
+            generator.writeStartObject();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("content".equals(name) && value != JsonToken.VALUE_NULL) {
+                    generator.writeFieldName(name);
+                    generator.copyCurrentStructure(parser);
+                } else if (PAGE_FIELDS.contains(name) && value == JsonToken.VALUE_NUMBER_INT) {
+                    pageFields.put(name, parser.getIntValue());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            for (String name : PAGE_FIELDS) {
+                generator.writeNumberField(name, pageFields.getOrDefault(name, 0));
+            }
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package by.andd3dfx.templateapp.controllers;
+
+import by.andd3dfx.templateapp.dto.ArticleAuthorUpdateDto;
+import by.andd3dfx.templateapp.dto.ArticleChangesResult;
+import by.andd3dfx.templateapp.dto.ArticleDto;
+import by.andd3dfx.templateapp.dto.ArticleSummaryDto;
+import by.andd3dfx.templateapp.dto.ArticleUpdateDto;
+import by.andd3dfx.templateapp.dto.BulkResultDto;
+import by.andd3dfx.templateapp.dto.KeysetPageResult;
+import by.andd3dfx.templateapp.dto.PageResult;
+import by.andd3dfx.templateapp.services.IReactiveArticleService;
+import io.swagger.annotations.ApiImplicitParam;
+import io.swagger.annotations.ApiImplicitParams;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Same API as {@link ArticleController}, but returns {@link Mono} so request thread is released
+ * while waiting for Articles Service.
+ */
+@Profile("reactive")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/articles")
+public class ReactiveArticleController {
+
+    private final IReactiveArticleService articleService;
+
+    @ApiOperation(value = "Create new article", response = ArticleDto.class)
+    @ApiResponses(value = {
+        @ApiResponse(code = 201, message = "Article successfully created"),
+    })
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<ArticleDto> createArticle(
+        @ApiParam("New article's data")
+        @Validated
+        @RequestBody ArticleDto newArticleDto
+    ) {
+        return articleService.create(newArticleDto);
+    }
+
+    @ApiOperation(value = "Create batch of new articles in single transaction", response = ArticleDto.class,
+        responseContainer = "List")
+    @ApiResponses(value = {
+        @ApiResponse(code = 201, message = "Articles successfully created"),
+        @ApiResponse(code = 400, message = "Some of articles are invalid, none of articles created"),
+    })
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<List<ArticleDto>> createArticles(
+        @ApiParam("New articles' data")
+        @RequestBody List<ArticleDto> newArticleDtos
+    ) {
+        return articleService.createAll(newArticleDtos);
+    }
+
+    @ApiOperation(value = "Get article by id", response = ArticleDto.class)
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Article successfully retrieved"),
+        @ApiResponse(code = 404, message = "Article not found"),
+    })
+    @GetMapping("/{id}")
+    public Mono<ArticleDto> readArticle(
+        @ApiParam("Article's id")
+        @NotNull
+        @PathVariable Long id
+    ) {
+        return articleService.read(id);
+    }
+
+    @ApiOperation("Update article")
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Article successfully updated"),
+        @ApiResponse(code = 404, message = "Article not found"),
+    })
+    @PatchMapping("/{id}")
+    public Mono<Void> updateArticle(
+        @ApiParam("Article's id")
+        @NotNull
+        @PathVariable Long id,
+        @ApiParam("Updated fields of article")
+        @Validated
+        @RequestBody ArticleUpdateDto articleUpdateDto
+    ) {
+        return articleService.update(id, articleUpdateDto);
+    }
+
+    @ApiOperation("Update several fields of article at once by JSON Merge Patch")
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Article successfully updated"),
+        @ApiResponse(code = 404, message = "Article not found"),
+    })
+    @PatchMapping(value = "/{id}", consumes = ArticleUpdateDto.MERGE_PATCH_JSON_VALUE)
+    public Mono<Void> patchArticle(
+        @ApiParam("Article's id")
+        @NotNull
+        @PathVariable Long id,
+        @ApiParam("Updated fields of article")
+        @Validated
+        @RequestBody ArticleUpdateDto articleUpdateDto
+    ) {
+        return articleService.patch(id, articleUpdateDto);
+    }
+
+    @ApiOperation("Delete article by id")
+    @ApiResponses(value = {
+        @ApiResponse(code = 204, message = "Article successfully deleted"),
+        @ApiResponse(code = 404, message = "Article not found"),
+    })
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> deleteArticle(
+        @ApiParam("Article's id")
+        @NotNull
+        @PathVariable Long id
+    ) {
+        return articleService.delete(id);
+    }
+
+    @ApiOperation(value = "Delete articles by ids", response = BulkResultDto.class)
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Articles successfully deleted, absent ids are ignored"),
+    })
+    @DeleteMapping(params = "ids")
+    public Mono<BulkResultDto> deleteArticles(
+        @ApiParam("Articles' ids")
+        @RequestParam List<Long> ids
+    ) {
+        return articleService.deleteAll(ids);
+    }
+
+    @ApiOperation(value = "Delete all articles of author", response = BulkResultDto.class)
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Articles successfully deleted"),
+    })
+    @DeleteMapping(params = "author")
+    public Mono<BulkResultDto> deleteArticlesByAuthor(
+        @ApiParam("Author of articles")
+        @RequestParam String author
+    ) {
+        return articleService.deleteByAuthor(author);
+    }
+
+    @ApiOperation(value = "Change author of all articles of author", response = BulkResultDto.class)
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Articles successfully updated"),
+    })
+    @PatchMapping(params = "author")
+    public Mono<BulkResultDto> updateArticlesAuthor(
+        @ApiParam("Current author of articles")
+        @RequestParam String author,
+        @ApiParam("New author")
+        @Validated
+        @RequestBody ArticleAuthorUpdateDto articleAuthorUpdateDto
+    ) {
+        return articleService.updateAuthor(author, articleAuthorUpdateDto);
+    }
+
+    @ApiOperation(value = "Read articles paged", response = PageResult.class)
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Articles successfully retrieved"),
+    })
+    @GetMapping
+    public Mono<PageResult> readArticlesPaged(
+        @RequestParam(defaultValue = "0") Integer page,
+        @RequestParam(defaultValue = "50") Integer size,
+        @RequestParam(defaultValue = "title") String sortBy
+    ) {
+        return articleService.readArticles(page, size, sortBy);
+    }
+
+    @ApiOperation(value = "Read articles using keyset pagination", response = KeysetPageResult.class)
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Articles successfully retrieved"),
+        @ApiResponse(code = 409, message = "Invalid cursor"),
+    })
+    @GetMapping("/scroll")
+    public Mono<KeysetPageResult> readArticlesScrolled(
+        @ApiParam("Author of articles, absent for articles of all authors")
+        @RequestParam(required = false) String author,
+        @ApiParam("Sort key: TITLE, DATE_CREATED or DATE_UPDATED, ignored when cursor is present")
+        @RequestParam(defaultValue = "TITLE") String sortBy,
+        @ApiParam("Sort direction: ASC or DESC, ignored when cursor is present")
+        @RequestParam(defaultValue = "ASC") String direction,
+        @ApiParam("Number of records per page")
+        @RequestParam(defaultValue = "50") Integer size,
+        @ApiParam("Cursor from previous page (`nextCursor`), absent for the first page")
+        @RequestParam(required = false) String cursor
+    ) {
+        return articleService.scrollArticles(author, sortBy, direction, size, cursor);
+    }
+
+    @ApiOperation(value = "Read articles updated or deleted since given date & time, the oldest change first",
+        response = ArticleChangesResult.class)
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Changes successfully retrieved"),
+        @ApiResponse(code = 409, message = "Invalid cursor"),
+    })
+    @GetMapping("/changes")
+    public Mono<ArticleChangesResult> readChanges(
+        @ApiParam("Date & time of the last known change (`dateChanged`), absent to get all articles; "
+            + "ignored when cursor is present")
+        @DateTimeFormat(iso = ISO.DATE_TIME)
+        @RequestParam(required = false) LocalDateTime since,
+        @ApiParam("Number of records per page")
+        @RequestParam(defaultValue = "50") Integer size,
+        @ApiParam("Cursor from previous page (`nextCursor`), absent for the first page")
+        @RequestParam(required = false) String cursor
+    ) {
+        return articleService.readChanges(since, size, cursor);
+    }
+
+    @ApiOperation(value = "Export all articles as NDJSON (one article per line), in order of id")
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Articles successfully exported"),
+    })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<String> exportArticles() {
+        return articleService.exportArticles();
+    }
+
+    @ApiOperation(value = "Search articles by words of title, summary and text, the most relevant first",
+        response = KeysetPageResult.class)
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Articles successfully retrieved"),
+        @ApiResponse(code = 400, message = "Empty search query"),
+        @ApiResponse(code = 409, message = "Invalid cursor"),
+    })
+    @GetMapping("/search")
+    public Mono<KeysetPageResult> searchArticles(
+        @ApiParam("Search query: words, \"quoted phrase\", `or` between alternatives, `-` before excluded word")
+        @RequestParam String q,
+        @ApiParam("Number of records per page")
+        @RequestParam(defaultValue = "50") Integer size,
+        @ApiParam("Cursor from previous page (`nextCursor`), absent for the first page")
+        @RequestParam(required = false) String cursor
+    ) {
+        return articleService.searchArticles(q, size, cursor);
+    }
+
+    @ApiOperation(value = "Fuzzy lookup of articles by title and author, the most similar first",
+        response = ArticleSummaryDto.class, responseContainer = "List")
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "Articles successfully retrieved"),
+        @ApiResponse(code = 400, message = "Empty query or invalid threshold or limit"),
+    })
+    @GetMapping("/lookup")
+    public Mono<List<ArticleSummaryDto>> lookupArticles(
+        @ApiParam("Words of title or author, possibly partial or misspelled")
+        @RequestParam String q,
+        @ApiParam("Min similarity of title or author to query, from 0 to 1")
+        @RequestParam(defaultValue = "0.3") Float threshold,
+        @ApiParam("Max number of records")
+        @RequestParam(defaultValue = "10") Integer limit
+    ) {
+        return articleService.lookupArticles(q, threshold, limit);
+    }
+}
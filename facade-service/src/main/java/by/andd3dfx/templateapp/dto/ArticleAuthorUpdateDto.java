@@ -0,0 +1,21 @@
+package by.andd3dfx.templateapp.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class ArticleAuthorUpdateDto {
+
+    @NotNull(message = "Author should be populated")
+    @Size(min = 1, message = "Author length should be 1 at least")
+    @ApiModelProperty(notes = "New author of articles", required = true)
+    private String author;
+}
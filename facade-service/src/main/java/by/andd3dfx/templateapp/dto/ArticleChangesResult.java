@@ -0,0 +1,21 @@
+package by.andd3dfx.templateapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@JsonInclude(Include.NON_NULL)
+public class ArticleChangesResult {
+
+    private List<ArticleChangeDto> content;
+    private int size;
+    private String nextCursor;
+}
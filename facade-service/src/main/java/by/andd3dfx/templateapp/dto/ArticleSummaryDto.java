@@ -0,0 +1,42 @@
+package by.andd3dfx.templateapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import io.swagger.annotations.ApiModelProperty;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Article without text, used in lists of articles. Full article is available by id only.
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@JsonInclude(Include.NON_NULL)
+public class ArticleSummaryDto {
+
+    @ApiModelProperty(notes = "The database generated article ID")
+    private Long id;
+
+    @ApiModelProperty(notes = "Article's title")
+    private String title;
+
+    @ApiModelProperty(notes = "Article's summary")
+    private String summary;
+
+    @ApiModelProperty(notes = "Article's author")
+    private String author;
+
+    @ApiModelProperty(notes = "Date & time of article creation")
+    private LocalDateTime dateCreated;
+
+    @ApiModelProperty(notes = "Date & time of article update")
+    private LocalDateTime dateUpdated;
+
+    @ApiModelProperty(notes = "Relevance of article to search query, present in search results only")
+    private Float rank;
+}
@@ -0,0 +1,20 @@
+package by.andd3dfx.templateapp.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of bulk update/delete.
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class BulkResultDto {
+
+    @ApiModelProperty(notes = "Amount of affected articles")
+    private int affected;
+}
@@ -15,7 +15,7 @@ import lombok.NoArgsConstructor;
 @JsonInclude(Include.NON_NULL)
 public class PageResult {
 
-    private List<ArticleDto> content;
+    private List<ArticleSummaryDto> content;
     private int size;
     private int number;
     private int totalPages;
@@ -8,6 +8,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 import java.time.LocalDateTime;
@@ -47,6 +48,11 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return buildResponseEntity(ex, ex.getStatusCode());
     }
 
+    @ExceptionHandler(WebClientResponseException.class)
+    public ResponseEntity handleWebClientResponseException(WebClientResponseException ex) {
+        return buildResponseEntity(ex, ex.getStatusCode());
+    }
+
     /**
      * 500.
      * Throw exception for any other unpredicted reason.
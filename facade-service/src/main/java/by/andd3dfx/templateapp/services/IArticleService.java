@@ -1,18 +1,46 @@
 package by.andd3dfx.templateapp.services;
 
+import by.andd3dfx.templateapp.dto.ArticleAuthorUpdateDto;
+import by.andd3dfx.templateapp.dto.ArticleChangesResult;
 import by.andd3dfx.templateapp.dto.ArticleDto;
+import by.andd3dfx.templateapp.dto.ArticleSummaryDto;
 import by.andd3dfx.templateapp.dto.ArticleUpdateDto;
+import by.andd3dfx.templateapp.dto.BulkResultDto;
+import by.andd3dfx.templateapp.dto.KeysetPageResult;
 import by.andd3dfx.templateapp.dto.PageResult;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface IArticleService {
 
     ArticleDto create(ArticleDto articleDto);
 
+    List<ArticleDto> createAll(List<ArticleDto> articleDtos);
+
     ArticleDto read(Long id);
 
     void update(Long id, ArticleUpdateDto articleUpdateDto);
 
+    void patch(Long id, ArticleUpdateDto articleUpdateDto);
+
     void delete(Long id);
 
+    BulkResultDto deleteAll(List<Long> ids);
+
+    BulkResultDto deleteByAuthor(String author);
+
+    BulkResultDto updateAuthor(String author, ArticleAuthorUpdateDto articleAuthorUpdateDto);
+
     PageResult readArticles(Integer pageNo, Integer pageSize, String sortBy);
+
+    KeysetPageResult scrollArticles(String author, String sortBy, String direction, Integer size, String cursor);
+
+    ArticleChangesResult readChanges(LocalDateTime since, Integer size, String cursor);
+
+    void exportArticles(OutputStream outputStream);
+
+    KeysetPageResult searchArticles(String query, Integer size, String cursor);
+
+    List<ArticleSummaryDto> lookupArticles(String query, Float threshold, Integer limit);
 }
@@ -0,0 +1,47 @@
+package by.andd3dfx.templateapp.services;
+
+import by.andd3dfx.templateapp.dto.ArticleAuthorUpdateDto;
+import by.andd3dfx.templateapp.dto.ArticleChangesResult;
+import by.andd3dfx.templateapp.dto.ArticleDto;
+import by.andd3dfx.templateapp.dto.ArticleSummaryDto;
+import by.andd3dfx.templateapp.dto.ArticleUpdateDto;
+import by.andd3dfx.templateapp.dto.BulkResultDto;
+import by.andd3dfx.templateapp.dto.KeysetPageResult;
+import by.andd3dfx.templateapp.dto.PageResult;
+import java.time.LocalDateTime;
+import java.util.List;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface IReactiveArticleService {
+
+    Mono<ArticleDto> create(ArticleDto articleDto);
+
+    Mono<List<ArticleDto>> createAll(List<ArticleDto> articleDtos);
+
+    Mono<ArticleDto> read(Long id);
+
+    Mono<Void> update(Long id, ArticleUpdateDto articleUpdateDto);
+
+    Mono<Void> patch(Long id, ArticleUpdateDto articleUpdateDto);
+
+    Mono<Void> delete(Long id);
+
+    Mono<BulkResultDto> deleteAll(List<Long> ids);
+
+    Mono<BulkResultDto> deleteByAuthor(String author);
+
+    Mono<BulkResultDto> updateAuthor(String author, ArticleAuthorUpdateDto articleAuthorUpdateDto);
+
+    Mono<PageResult> readArticles(Integer pageNo, Integer pageSize, String sortBy);
+
+    Mono<KeysetPageResult> scrollArticles(String author, String sortBy, String direction, Integer size, String cursor);
+
+    Mono<ArticleChangesResult> readChanges(LocalDateTime since, Integer size, String cursor);
+
+    Flux<String> exportArticles();
+
+    Mono<KeysetPageResult> searchArticles(String query, Integer size, String cursor);
+
+    Mono<List<ArticleSummaryDto>> lookupArticles(String query, Float threshold, Integer limit);
+}
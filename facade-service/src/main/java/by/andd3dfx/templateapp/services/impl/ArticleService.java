@@ -1,14 +1,37 @@
 package by.andd3dfx.templateapp.services.impl;
 
+import by.andd3dfx.templateapp.configs.CacheConfig;
+import by.andd3dfx.templateapp.dto.ArticleAuthorUpdateDto;
+import by.andd3dfx.templateapp.dto.ArticleChangesResult;
 import by.andd3dfx.templateapp.dto.ArticleDto;
+import by.andd3dfx.templateapp.dto.ArticleSummaryDto;
 import by.andd3dfx.templateapp.dto.ArticleUpdateDto;
+import by.andd3dfx.templateapp.dto.BulkResultDto;
+import by.andd3dfx.templateapp.dto.KeysetPageResult;
 import by.andd3dfx.templateapp.dto.PageResult;
 import by.andd3dfx.templateapp.services.IArticleService;
+import by.andd3dfx.templateapp.util.RequestCoalescer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
 @Service
 @RequiredArgsConstructor
@@ -19,31 +42,205 @@ public class ArticleService implements IArticleService {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final RequestCoalescer requestCoalescer;
 
+    @CacheEvict(cacheNames = CacheConfig.ARTICLE_PAGES_CACHE, allEntries = true)
     @Override
     public ArticleDto create(ArticleDto articleDto) {
         return restTemplate.postForObject(articlesServiceUrl, articleDto, ArticleDto.class);
     }
 
+    /**
+     * Articles are validated by Articles Service, whole batch is rejected with 400 when any of articles is invalid.
+     */
+    @CacheEvict(cacheNames = CacheConfig.ARTICLE_PAGES_CACHE, allEntries = true)
+    @Override
+    public List<ArticleDto> createAll(List<ArticleDto> articleDtos) {
+        var result = restTemplate.postForObject(articlesServiceUrl + "/batch", articleDtos, ArticleDto[].class);
+        return Arrays.asList(result);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.ARTICLES_CACHE, key = "#id", unless = "#result == null")
     @Override
     public ArticleDto read(Long id) {
-        return restTemplate.getForObject(articlesServiceUrl + "/" + id, ArticleDto.class);
+        var url = articlesServiceUrl + "/" + id;
+        return requestCoalescer.execute(url, () -> restTemplate.getForObject(url, ArticleDto.class));
     }
 
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.ARTICLES_CACHE, key = "#id"),
+        @CacheEvict(cacheNames = CacheConfig.ARTICLE_PAGES_CACHE, allEntries = true)
+    })
     @Override
     public void update(Long id, ArticleUpdateDto articleUpdateDto) {
         restTemplate.patchForObject(articlesServiceUrl + "/" + id, articleUpdateDto, String.class);
     }
 
+    /**
+     * All fields are updated by Articles Service in single statement.
+     */
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.ARTICLES_CACHE, key = "#id"),
+        @CacheEvict(cacheNames = CacheConfig.ARTICLE_PAGES_CACHE, allEntries = true)
+    })
+    @Override
+    public void patch(Long id, ArticleUpdateDto articleUpdateDto) {
+        var headers = new HttpHeaders();
+        headers.setContentType(MediaType.valueOf(ArticleUpdateDto.MERGE_PATCH_JSON_VALUE));
+        restTemplate.patchForObject(articlesServiceUrl + "/" + id, new HttpEntity<>(articleUpdateDto, headers),
+            String.class);
+    }
+
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.ARTICLES_CACHE, key = "#id"),
+        @CacheEvict(cacheNames = CacheConfig.ARTICLE_PAGES_CACHE, allEntries = true)
+    })
     @Override
     public void delete(Long id) {
         restTemplate.delete(articlesServiceUrl + "/" + id);
     }
 
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.ARTICLES_CACHE, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.ARTICLE_PAGES_CACHE, allEntries = true)
+    })
+    @Override
+    public BulkResultDto deleteAll(List<Long> ids) {
+        var uri = UriComponentsBuilder.fromHttpUrl(articlesServiceUrl)
+            .queryParam("ids", ids.toArray())
+            .build()
+            .toUri();
+        return restTemplate.exchange(uri, HttpMethod.DELETE, null, BulkResultDto.class).getBody();
+    }
+
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.ARTICLES_CACHE, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.ARTICLE_PAGES_CACHE, allEntries = true)
+    })
+    @Override
+    public BulkResultDto deleteByAuthor(String author) {
+        return restTemplate.exchange(byAuthorUri(author), HttpMethod.DELETE, null, BulkResultDto.class).getBody();
+    }
+
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.ARTICLES_CACHE, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.ARTICLE_PAGES_CACHE, allEntries = true)
+    })
+    @Override
+    public BulkResultDto updateAuthor(String author, ArticleAuthorUpdateDto articleAuthorUpdateDto) {
+        return restTemplate.patchForObject(byAuthorUri(author), articleAuthorUpdateDto, BulkResultDto.class);
+    }
+
+    /**
+     * Sort is encoded as URI variable, so reserved chars (like `&` or `{`) can't add or break query parameters.
+     */
+    @Cacheable(cacheNames = CacheConfig.ARTICLE_PAGES_CACHE, key = "{#pageNo, #pageSize, #sortBy}",
+        unless = "#result == null")
     @Override
     public PageResult readArticles(Integer pageNo, Integer pageSize, String sortBy) {
-        var url = String.format("%s?page=%d&size=%d", articlesServiceUrl, pageNo, pageSize);
-        var result = restTemplate.getForObject(url, Object.class);
-        return objectMapper.convertValue(result, PageResult.class);
+        var uri = UriComponentsBuilder.fromHttpUrl(articlesServiceUrl)
+            .queryParam("page", pageNo)
+            .queryParam("size", pageSize)
+            .queryParamIfPresent("sort", Optional.ofNullable(sortBy).map(value -> "{sort}"))
+            .encode()
+            .buildAndExpand(sortBy)
+            .toUri();
+        return requestCoalescer.execute(uri.toString(), () -> {
+            var result = restTemplate.getForObject(uri, Object.class);
+            return objectMapper.convertValue(result, PageResult.class);
+        });
+    }
+
+    /**
+     * Parameters of client are encoded as URI variables, so reserved chars (like `&` or `+`) are encoded as well.
+     */
+    @Override
+    public KeysetPageResult scrollArticles(String author, String sortBy, String direction, Integer size,
+        String cursor) {
+        var uriVariables = new HashMap<String, Object>();
+        uriVariables.put("author", author);
+        uriVariables.put("sortBy", sortBy);
+        uriVariables.put("direction", direction);
+        uriVariables.put("cursor", cursor);
+        var uri = UriComponentsBuilder.fromHttpUrl(articlesServiceUrl + "/scroll")
+            .queryParamIfPresent("author", Optional.ofNullable(author).map(value -> "{author}"))
+            .queryParam("sortBy", "{sortBy}")
+            .queryParam("direction", "{direction}")
+            .queryParam("size", size)
+            .queryParamIfPresent("cursor", Optional.ofNullable(cursor).map(value -> "{cursor}"))
+            .encode()
+            .buildAndExpand(uriVariables)
+            .toUri();
+        return requestCoalescer.execute(uri.toString(), () -> restTemplate.getForObject(uri, KeysetPageResult.class));
+    }
+
+    /**
+     * Changes aren't cached: consumer reads them to catch up with the latest state of articles.
+     * Cursor is encoded as URI variable.
+     */
+    @Override
+    public ArticleChangesResult readChanges(LocalDateTime since, Integer size, String cursor) {
+        var uri = UriComponentsBuilder.fromHttpUrl(articlesServiceUrl + "/changes")
+            .queryParamIfPresent("since", Optional.ofNullable(since))
+            .queryParam("size", size)
+            .queryParamIfPresent("cursor", Optional.ofNullable(cursor).map(value -> "{cursor}"))
+            .encode()
+            .buildAndExpand(cursor)
+            .toUri();
+        return requestCoalescer.execute(uri.toString(),
+            () -> restTemplate.getForObject(uri, ArticleChangesResult.class));
+    }
+
+    /**
+     * Response of Articles Service is copied to output stream as is, by chunks,
+     * so heap use doesn't depend on amount of articles.
+     */
+    @Override
+    public void exportArticles(OutputStream outputStream) {
+        restTemplate.execute(articlesServiceUrl + "/export", HttpMethod.GET,
+            request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_NDJSON)),
+            response -> {
+                StreamUtils.copy(response.getBody(), outputStream);
+                return null;
+            });
+    }
+
+    /**
+     * Query and cursor are encoded as URI variables, so reserved chars (like `&` or `+`) are encoded as well.
+     */
+    @Override
+    public KeysetPageResult searchArticles(String query, Integer size, String cursor) {
+        var uri = UriComponentsBuilder.fromHttpUrl(articlesServiceUrl + "/search")
+            .queryParam("q", "{query}")
+            .queryParam("size", size)
+            .queryParamIfPresent("cursor", Optional.ofNullable(cursor).map(value -> "{cursor}"))
+            .encode()
+            .buildAndExpand(query, cursor)
+            .toUri();
+        return requestCoalescer.execute(uri.toString(), () -> restTemplate.getForObject(uri, KeysetPageResult.class));
+    }
+
+    @Override
+    public List<ArticleSummaryDto> lookupArticles(String query, Float threshold, Integer limit) {
+        var uri = UriComponentsBuilder.fromHttpUrl(articlesServiceUrl + "/lookup")
+            .queryParam("q", "{query}")
+            .queryParam("threshold", threshold)
+            .queryParam("limit", limit)
+            .encode()
+            .buildAndExpand(query)
+            .toUri();
+        return Arrays.asList(requestCoalescer.execute(uri.toString(),
+            () -> restTemplate.getForObject(uri, ArticleSummaryDto[].class)));
+    }
+
+    /**
+     * Author is encoded as URI variable, so reserved chars (like `&` or `+`) are encoded as well.
+     */
+    private URI byAuthorUri(String author) {
+        return UriComponentsBuilder.fromHttpUrl(articlesServiceUrl)
+            .queryParam("author", "{author}")
+            .encode()
+            .buildAndExpand(author)
+            .toUri();
     }
 }
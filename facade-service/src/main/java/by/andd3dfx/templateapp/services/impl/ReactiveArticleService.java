@@ -0,0 +1,207 @@
+package by.andd3dfx.templateapp.services.impl;
+
+import by.andd3dfx.templateapp.dto.ArticleAuthorUpdateDto;
+import by.andd3dfx.templateapp.dto.ArticleChangesResult;
+import by.andd3dfx.templateapp.dto.ArticleDto;
+import by.andd3dfx.templateapp.dto.ArticleSummaryDto;
+import by.andd3dfx.templateapp.dto.ArticleUpdateDto;
+import by.andd3dfx.templateapp.dto.BulkResultDto;
+import by.andd3dfx.templateapp.dto.KeysetPageResult;
+import by.andd3dfx.templateapp.dto.PageResult;
+import by.andd3dfx.templateapp.services.IReactiveArticleService;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link ArticleService}: no thread is held while waiting for Articles Service.
+ */
+@Profile("reactive")
+@Service
+@RequiredArgsConstructor
+public class ReactiveArticleService implements IReactiveArticleService {
+
+    private final WebClient articlesWebClient;
+
+    @Override
+    public Mono<ArticleDto> create(ArticleDto articleDto) {
+        return articlesWebClient.post()
+            .bodyValue(articleDto)
+            .retrieve()
+            .bodyToMono(ArticleDto.class);
+    }
+
+    @Override
+    public Mono<List<ArticleDto>> createAll(List<ArticleDto> articleDtos) {
+        return articlesWebClient.post()
+            .uri("/batch")
+            .bodyValue(articleDtos)
+            .retrieve()
+            .bodyToFlux(ArticleDto.class)
+            .collectList();
+    }
+
+    @Override
+    public Mono<ArticleDto> read(Long id) {
+        return articlesWebClient.get()
+            .uri("/{id}", id)
+            .retrieve()
+            .bodyToMono(ArticleDto.class);
+    }
+
+    @Override
+    public Mono<Void> update(Long id, ArticleUpdateDto articleUpdateDto) {
+        return articlesWebClient.patch()
+            .uri("/{id}", id)
+            .bodyValue(articleUpdateDto)
+            .retrieve()
+            .toBodilessEntity()
+            .then();
+    }
+
+    @Override
+    public Mono<Void> patch(Long id, ArticleUpdateDto articleUpdateDto) {
+        return articlesWebClient.patch()
+            .uri("/{id}", id)
+            .contentType(MediaType.valueOf(ArticleUpdateDto.MERGE_PATCH_JSON_VALUE))
+            .bodyValue(articleUpdateDto)
+            .retrieve()
+            .toBodilessEntity()
+            .then();
+    }
+
+    @Override
+    public Mono<Void> delete(Long id) {
+        return articlesWebClient.delete()
+            .uri("/{id}", id)
+            .retrieve()
+            .toBodilessEntity()
+            .then();
+    }
+
+    @Override
+    public Mono<BulkResultDto> deleteAll(List<Long> ids) {
+        return articlesWebClient.delete()
+            .uri(uriBuilder -> uriBuilder
+                .queryParam("ids", ids.toArray())
+                .build())
+            .retrieve()
+            .bodyToMono(BulkResultDto.class);
+    }
+
+    @Override
+    public Mono<BulkResultDto> deleteByAuthor(String author) {
+        return articlesWebClient.delete()
+            .uri(uriBuilder -> uriBuilder
+                .queryParam("author", "{author}")
+                .build(author))
+            .retrieve()
+            .bodyToMono(BulkResultDto.class);
+    }
+
+    @Override
+    public Mono<BulkResultDto> updateAuthor(String author, ArticleAuthorUpdateDto articleAuthorUpdateDto) {
+        return articlesWebClient.patch()
+            .uri(uriBuilder -> uriBuilder
+                .queryParam("author", "{author}")
+                .build(author))
+            .bodyValue(articleAuthorUpdateDto)
+            .retrieve()
+            .bodyToMono(BulkResultDto.class);
+    }
+
+    @Override
+    public Mono<PageResult> readArticles(Integer pageNo, Integer pageSize, String sortBy) {
+        return articlesWebClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .queryParam("page", pageNo)
+                .queryParam("size", pageSize)
+                .queryParamIfPresent("sort", Optional.ofNullable(sortBy).map(value -> "{sort}"))
+                .build(sortBy))
+            .retrieve()
+            .bodyToMono(PageResult.class);
+    }
+
+    @Override
+    public Mono<KeysetPageResult> scrollArticles(String author, String sortBy, String direction, Integer size,
+        String cursor) {
+        var uriVariables = new HashMap<String, Object>();
+        uriVariables.put("author", author);
+        uriVariables.put("sortBy", sortBy);
+        uriVariables.put("direction", direction);
+        uriVariables.put("cursor", cursor);
+        return articlesWebClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/scroll")
+                .queryParamIfPresent("author", Optional.ofNullable(author).map(value -> "{author}"))
+                .queryParam("sortBy", "{sortBy}")
+                .queryParam("direction", "{direction}")
+                .queryParam("size", size)
+                .queryParamIfPresent("cursor", Optional.ofNullable(cursor).map(value -> "{cursor}"))
+                .build(uriVariables))
+            .retrieve()
+            .bodyToMono(KeysetPageResult.class);
+    }
+
+    @Override
+    public Mono<ArticleChangesResult> readChanges(LocalDateTime since, Integer size, String cursor) {
+        return articlesWebClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/changes")
+                .queryParamIfPresent("since", Optional.ofNullable(since))
+                .queryParam("size", size)
+                .queryParamIfPresent("cursor", Optional.ofNullable(cursor).map(value -> "{cursor}"))
+                .build(cursor))
+            .retrieve()
+            .bodyToMono(ArticleChangesResult.class);
+    }
+
+    /**
+     * Lines of response are relayed as they arrive, without deserialization, and with backpressure:
+     * next lines are requested when previous ones are written to client.
+     */
+    @Override
+    public Flux<String> exportArticles() {
+        return articlesWebClient.get()
+            .uri("/export")
+            .accept(MediaType.APPLICATION_NDJSON)
+            .retrieve()
+            .bodyToFlux(String.class)
+            .map(line -> line + "\n");
+    }
+
+    @Override
+    public Mono<KeysetPageResult> searchArticles(String query, Integer size, String cursor) {
+        return articlesWebClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/search")
+                .queryParam("q", "{query}")
+                .queryParam("size", size)
+                .queryParamIfPresent("cursor", Optional.ofNullable(cursor).map(value -> "{cursor}"))
+                .build(query, cursor))
+            .retrieve()
+            .bodyToMono(KeysetPageResult.class);
+    }
+
+    @Override
+    public Mono<List<ArticleSummaryDto>> lookupArticles(String query, Float threshold, Integer limit) {
+        return articlesWebClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/lookup")
+                .queryParam("q", "{query}")
+                .queryParam("threshold", threshold)
+                .queryParam("limit", limit)
+                .build(query))
+            .retrieve()
+            .bodyToFlux(ArticleSummaryDto.class)
+            .collectList();
+    }
+}
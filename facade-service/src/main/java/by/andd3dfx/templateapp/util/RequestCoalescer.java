@@ -0,0 +1,156 @@
+package by.andd3dfx.templateapp.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single-flight execution of identical calls: while call with some key is in flight,
+ * concurrent callers with the same key don't make their own call but wait for result (or exception) of it.
+ * <p>
+ * Results are mutable DTOs, which could be changed by caller or put into cache, so they aren't shared: result
+ * is returned to the caller which made the call, other callers get their own copies deserialized from JSON snapshot
+ * of it. Snapshot is taken only when other callers joined the call, so single calls pay nothing for it.
+ * Type of result should be deserializable by its class (use arrays instead of generic lists).
+ * <p>
+ * Amount of such collapsed calls is counted by `articles-service.requests.collapsed` metric.
+ */
+@Component
+public class RequestCoalescer {
+
+    private final ConcurrentHashMap<String, InFlightCall> inFlightCalls = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final Counter collapsedCounter;
+
+    public RequestCoalescer(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        collapsedCounter = Counter.builder("articles-service.requests.collapsed")
+            .description("Calls to Articles Service which were served by identical call already in flight")
+            .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> call) {
+        var ownCall = new InFlightCall();
+        while (true) {
+            var inFlightCall = inFlightCalls.putIfAbsent(key, ownCall);
+            if (inFlightCall == null) {
+                return executeOwnCall(key, ownCall, call);
+            }
+            if (inFlightCall.addWaiter()) {
+                collapsedCounter.increment();
+                return (T) copy(join(inFlightCall.future));
+            }
+            // Call has just completed without snapshot for this caller, so try again
+        }
+    }
+
+    /**
+     * Key is removed before waiters are counted, so no waiter joins afterwards. Snapshot is taken only
+     * when there are waiters; its failure is passed to them, while the caller still gets result.
+     */
+    private <T> T executeOwnCall(String key, InFlightCall ownCall, Supplier<T> call) {
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException | Error ex) {
+            inFlightCalls.remove(key, ownCall);
+            ownCall.close();
+            ownCall.future.completeExceptionally(ex);
+            throw ex;
+        }
+
+        inFlightCalls.remove(key, ownCall);
+        if (ownCall.close() > 0) {
+            try {
+                ownCall.future.complete(snapshot(result));
+            } catch (RuntimeException ex) {
+                ownCall.future.completeExceptionally(ex);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Taken before result is returned to its caller, so later changes of result don't affect copies.
+     */
+    private Snapshot snapshot(Object result) {
+        if (result == null) {
+            return null;
+        }
+        try {
+            return new Snapshot(result.getClass(), objectMapper.writeValueAsBytes(result));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to take snapshot of " + result.getClass().getName(), ex);
+        }
+    }
+
+    private Object copy(Snapshot snapshot) {
+        if (snapshot == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(snapshot.json, snapshot.type);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to copy " + snapshot.type.getName(), ex);
+        }
+    }
+
+    private static Snapshot join(CompletableFuture<Snapshot> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static class InFlightCall {
+
+        private final CompletableFuture<Snapshot> future = new CompletableFuture<>();
+        private int waiters;
+        private boolean closed;
+
+        /**
+         * @return false when call is already completed and waiter can't join it
+         */
+        synchronized boolean addWaiter() {
+            if (closed) {
+                return false;
+            }
+            waiters++;
+            return true;
+        }
+
+        /**
+         * @return amount of waiters
+         */
+        synchronized int close() {
+            closed = true;
+            return waiters;
+        }
+    }
+
+    private static class Snapshot {
+
+        private final Class<?> type;
+        private final byte[] json;
+
+        Snapshot(Class<?> type, byte[] json) {
+            this.type = type;
+            this.json = json;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package by.andd3dfx.templateapp.configs;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import by.andd3dfx.templateapp.dto.ArticleDto;
+import org.junit.jupiter.api.Test;
+
+class CacheConfigTest {
+
+    @Test
+    void articleWeight() {
+        var article = ArticleDto.builder()
+            .title("Title")
+            .text("Some text")
+            .author("Author")
+            .build();
+
+        assertThat(CacheConfig.articleWeight(article), is(256 + 2 * 20));
+    }
+
+    @Test
+    void articleWeightOfEmptyArticle() {
+        assertThat(CacheConfig.articleWeight(new ArticleDto()), is(256));
+    }
+}
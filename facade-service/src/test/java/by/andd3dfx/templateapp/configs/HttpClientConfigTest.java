@@ -0,0 +1,47 @@
+package by.andd3dfx.templateapp.configs;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.security.GeneralSecurityException;
+import javax.net.ssl.SSLContext;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+class HttpClientConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withBean(SSLContext.class, HttpClientConfigTest::sslContext)
+        .withUserConfiguration(HttpClientConfig.class);
+
+    @Test
+    void pooledClientByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context.getBeansOfType(PoolingHttpClientConnectionManager.class).size(), is(1));
+            assertThat(context.getBean(RestTemplate.class).getRequestFactory()
+                instanceof HttpComponentsClientHttpRequestFactory, is(true));
+        });
+    }
+
+    @Test
+    void noPoolForHttp2() {
+        contextRunner.withPropertyValues("articles-service.http-version=HTTP_2").run(context -> {
+            assertThat(context.getBeansOfType(PoolingHttpClientConnectionManager.class).isEmpty(), is(true));
+            assertThat(context.getBean(RestTemplate.class).getRequestFactory()
+                instanceof JdkClientHttpRequestFactory, is(true));
+        });
+    }
+
+    private static SSLContext sslContext() {
+        try {
+            var sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(null, null, null);
+            return sslContext;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package by.andd3dfx.templateapp.configs;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StreamUtils;
+
+@ExtendWith(MockitoExtension.class)
+class JdkClientHttpRequestFactoryTest {
+
+    private static final URI ARTICLE_URI = URI.create("https://localhost:9082/api/v1/articles/1");
+
+    @Mock
+    private HttpClient httpClient;
+    @Mock
+    private HttpResponse<InputStream> httpResponse;
+
+    @Test
+    void execute() throws Exception {
+        var factory = new JdkClientHttpRequestFactory(httpClient, Duration.ofSeconds(3));
+        when(httpResponse.statusCode()).thenReturn(200);
+        when(httpResponse.headers()).thenReturn(
+            HttpHeaders.of(Map.of("content-type", List.of("application/json")), (name, value) -> true));
+        when(httpResponse.body()).thenReturn(new ByteArrayInputStream("{\"id\":1}".getBytes(StandardCharsets.UTF_8)));
+        Mockito.<HttpResponse<Object>>when(httpClient.send(any(), any())).thenReturn((HttpResponse) httpResponse);
+
+        var request = factory.createRequest(ARTICLE_URI, HttpMethod.PATCH);
+        request.getHeaders().add("Accept", "application/json");
+        request.getHeaders().add("Content-Length", "11");
+        request.getBody().write("{\"title\":1}".getBytes(StandardCharsets.UTF_8));
+
+        try (var response = request.execute()) {
+            assertThat(response.getStatusCode(), is(HttpStatus.OK));
+            assertThat(response.getHeaders().getFirst("content-type"), is("application/json"));
+            assertThat(StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8), is("{\"id\":1}"));
+        }
+
+        var requestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+        Mockito.verify(httpClient).send(requestCaptor.capture(), any());
+        HttpRequest sentRequest = requestCaptor.getValue();
+        assertThat(sentRequest.uri(), is(ARTICLE_URI));
+        assertThat(sentRequest.method(), is("PATCH"));
+        assertThat(sentRequest.timeout().get(), is(Duration.ofSeconds(3)));
+        assertThat(sentRequest.headers().firstValue("Accept").get(), is("application/json"));
+        assertThat("Restricted header shouldn't be passed",
+            sentRequest.headers().firstValue("Content-Length").isPresent(), is(false));
+        assertThat(sentRequest.bodyPublisher().get().contentLength(), is(11L));
+    }
+
+    @Test
+    void executeWithErrorStatus() throws Exception {
+        var factory = new JdkClientHttpRequestFactory(httpClient, Duration.ofSeconds(3));
+        when(httpResponse.statusCode()).thenReturn(404);
+        when(httpResponse.headers()).thenReturn(HttpHeaders.of(Map.of(), (name, value) -> true));
+        Mockito.<HttpResponse<Object>>when(httpClient.send(any(), any())).thenReturn((HttpResponse) httpResponse);
+
+        var response = factory.createRequest(ARTICLE_URI, HttpMethod.GET).execute();
+
+        assertThat(response.getRawStatusCode(), is(404));
+        assertThat(response.getStatusText(), is("Not Found"));
+    }
+}
@@ -5,6 +5,8 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -15,20 +17,34 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
 
+import by.andd3dfx.templateapp.dto.ArticleAuthorUpdateDto;
+import by.andd3dfx.templateapp.dto.ArticleChangeDto;
+import by.andd3dfx.templateapp.dto.ArticleChangesResult;
 import by.andd3dfx.templateapp.dto.ArticleDto;
+import by.andd3dfx.templateapp.dto.ArticleSummaryDto;
 import by.andd3dfx.templateapp.dto.ArticleUpdateDto;
+import by.andd3dfx.templateapp.dto.BulkResultDto;
+import by.andd3dfx.templateapp.dto.KeysetPageResult;
 import by.andd3dfx.templateapp.dto.PageResult;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
+import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.web.WebAppConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.client.HttpClientErrorException;
@@ -47,6 +63,8 @@ class ArticleControllerTest {
     private WebApplicationContext webApplicationContext;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private CacheManager cacheManager;
     @MockBean
     private RestTemplate restTemplate;
 
@@ -54,6 +72,7 @@ class ArticleControllerTest {
     public void setup() {
         mockMvc = webAppContextSetup(webApplicationContext)
             .build();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
     }
 
     @Test
@@ -90,6 +109,48 @@ class ArticleControllerTest {
             .andExpect(jsonPath("$.dateUpdated", notNullValue()));
     }
 
+    @Test
+    public void createArticles() throws Exception {
+        ArticleDto articleDto = ArticleDto.builder()
+            .title("Some tittle value")
+            .text("Some text")
+            .author("Some author")
+            .build();
+        ArticleDto createdArticleDto = ArticleDto.builder()
+            .id(123L)
+            .title("Some tittle value")
+            .text("Some text")
+            .author("Some author")
+            .build();
+        when(restTemplate.postForObject(ARTICLES_BASE_ADDRESS + "/batch", List.of(articleDto), ArticleDto[].class))
+            .thenReturn(new ArticleDto[]{createdArticleDto});
+
+        mockMvc.perform(post("/api/v1/articles/batch")
+                .contentType(APPLICATION_JSON)
+                .content(json(List.of(articleDto)))
+            )
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].id", is(123)))
+            .andExpect(jsonPath("$[0].title", is(articleDto.getTitle())));
+    }
+
+    @Test
+    public void createArticlesWithInvalidArticle() throws Exception {
+        ArticleDto articleDto = ArticleDto.builder()
+            .text("Some text")
+            .author("Some author")
+            .build();
+        when(restTemplate.postForObject(ARTICLES_BASE_ADDRESS + "/batch", List.of(articleDto), ArticleDto[].class))
+            .thenThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+
+        mockMvc.perform(post("/api/v1/articles/batch")
+                .contentType(APPLICATION_JSON)
+                .content(json(List.of(articleDto)))
+            )
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     public void createArticleWithIdPopulated() throws Exception {
         ArticleDto articleDto = ArticleDto.builder()
@@ -270,6 +331,31 @@ class ArticleControllerTest {
             .andExpect(status().isNoContent());
     }
 
+    @Test
+    public void deleteArticlesByAuthor() throws Exception {
+        var uri = URI.create(ARTICLES_BASE_ADDRESS + "?author=Some%20author");
+        when(restTemplate.exchange(uri, HttpMethod.DELETE, null, BulkResultDto.class))
+            .thenReturn(ResponseEntity.ok(new BulkResultDto(3)));
+
+        mockMvc.perform(delete("/api/v1/articles")
+                .param("author", "Some author")
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.affected", is(3)));
+    }
+
+    @Test
+    public void updateArticlesAuthorWithEmptyAuthor() throws Exception {
+        String message = mockMvc.perform(patch("/api/v1/articles")
+                .param("author", "Some author")
+                .contentType(APPLICATION_JSON)
+                .content(json(new ArticleAuthorUpdateDto("")))
+            )
+            .andExpect(status().isBadRequest())
+            .andReturn().getResolvedException().getMessage();
+        assertThat(message, containsString("Author length should be 1 at least"));
+    }
+
     @Test
     public void deleteAbsentArticle() throws Exception {
         final Long ARTICLE_ID = 123L;
@@ -298,6 +384,60 @@ class ArticleControllerTest {
             .andExpect(jsonPath("$.id", is(ARTICLE_ID.intValue())));
     }
 
+    @Test
+    public void readArticleFromCache() throws Exception {
+        final Long ARTICLE_ID = 123L;
+        ArticleDto articleDto = ArticleDto.builder()
+            .id(ARTICLE_ID)
+            .build();
+        when(restTemplate.getForObject(ARTICLES_BASE_ADDRESS + "/" + ARTICLE_ID, ArticleDto.class))
+            .thenReturn(articleDto);
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/v1/articles/" + ARTICLE_ID)
+                    .contentType(APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(ARTICLE_ID.intValue())));
+        }
+
+        Mockito.verify(restTemplate, times(1))
+            .getForObject(ARTICLES_BASE_ADDRESS + "/" + ARTICLE_ID, ArticleDto.class);
+    }
+
+    @Test
+    public void updateArticleEvictsItFromCache() throws Exception {
+        final Long ARTICLE_ID = 123L;
+        when(restTemplate.getForObject(ARTICLES_BASE_ADDRESS + "/" + ARTICLE_ID, ArticleDto.class))
+            .thenReturn(ArticleDto.builder().id(ARTICLE_ID).title("Old title").build())
+            .thenReturn(ArticleDto.builder().id(ARTICLE_ID).title("New title").build());
+
+        mockMvc.perform(get("/api/v1/articles/" + ARTICLE_ID))
+            .andExpect(jsonPath("$.title", is("Old title")));
+        mockMvc.perform(patch("/api/v1/articles/" + ARTICLE_ID)
+                .contentType(APPLICATION_JSON)
+                .content(json(ArticleUpdateDto.builder().title("New title").build()))
+            )
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/articles/" + ARTICLE_ID))
+            .andExpect(jsonPath("$.title", is("New title")));
+    }
+
+    @Test
+    public void deleteArticleEvictsItFromCache() throws Exception {
+        final Long ARTICLE_ID = 123L;
+        when(restTemplate.getForObject(ARTICLES_BASE_ADDRESS + "/" + ARTICLE_ID, ArticleDto.class))
+            .thenReturn(ArticleDto.builder().id(ARTICLE_ID).build())
+            .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+
+        mockMvc.perform(get("/api/v1/articles/" + ARTICLE_ID))
+            .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/v1/articles/" + ARTICLE_ID))
+            .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/v1/articles/" + ARTICLE_ID))
+            .andExpect(status().isNotFound());
+    }
+
     @Test
     public void readAbsentArticle() throws Exception {
         final Long ARTICLE_ID = 123L;
@@ -310,19 +450,32 @@ class ArticleControllerTest {
             .andExpect(status().isNotFound());
     }
 
+    @Test
+    public void readArticlesWithoutText() throws Exception {
+        final URI url = URI.create(ARTICLES_BASE_ADDRESS + "?page=0&size=5&sort=title");
+        Mockito.when(restTemplate.getForObject(url, Object.class))
+            .thenReturn(Map.of("content", List.of(Map.of("id", 1, "title", "Some title", "text", "Long text"))));
+
+        mockMvc.perform(get("/api/v1/articles?page=0&size=5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].title", is("Some title")))
+            .andExpect(jsonPath("$.content[0].text").doesNotExist());
+    }
+
     @Test
     public void readArticles() throws Exception {
         var pageNumber = 3;
         var pageSize = 5;
         var pageResult = PageResult.builder()
-            .content(List.of(new ArticleDto(), new ArticleDto()))
+            .content(List.of(new ArticleSummaryDto(), new ArticleSummaryDto()))
             .number(pageNumber)
             .size(pageSize)
             .totalPages(1)
             .totalElements(10)
             .build();
 
-        final String url = String.format(ARTICLES_BASE_ADDRESS + "?page=%d&size=%d", pageNumber, pageSize);
+        final URI url = URI.create(String.format(ARTICLES_BASE_ADDRESS + "?page=%d&size=%d&sort=title", pageNumber,
+            pageSize));
         Mockito.when(restTemplate.getForObject(url, Object.class))
             .thenReturn(pageResult);
 
@@ -337,6 +490,128 @@ class ArticleControllerTest {
             .andExpect(jsonPath("$.totalElements", is(10)));
     }
 
+    @Test
+    public void readArticlesFromCache() throws Exception {
+        var pageResult = PageResult.builder()
+            .content(List.of(new ArticleSummaryDto()))
+            .build();
+        final URI url = URI.create(ARTICLES_BASE_ADDRESS + "?page=0&size=5&sort=author%2CDESC");
+        Mockito.when(restTemplate.getForObject(url, Object.class))
+            .thenReturn(pageResult);
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/v1/articles?page=0&size=5&sortBy=author,DESC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)));
+        }
+
+        Mockito.verify(restTemplate, times(1)).getForObject(url, Object.class);
+    }
+
+    @Test
+    public void readArticlesWithDifferentSort() throws Exception {
+        final URI urlByTitle = URI.create(ARTICLES_BASE_ADDRESS + "?page=0&size=5&sort=title");
+        final URI urlByAuthor = URI.create(ARTICLES_BASE_ADDRESS + "?page=0&size=5&sort=author");
+        Mockito.when(restTemplate.getForObject(urlByTitle, Object.class))
+            .thenReturn(PageResult.builder().content(List.of(new ArticleSummaryDto())).build());
+        Mockito.when(restTemplate.getForObject(urlByAuthor, Object.class))
+            .thenReturn(PageResult.builder().content(List.of(new ArticleSummaryDto(), new ArticleSummaryDto())).build());
+
+        mockMvc.perform(get("/api/v1/articles?page=0&size=5&sortBy=title"))
+            .andExpect(jsonPath("$.content", hasSize(1)));
+        mockMvc.perform(get("/api/v1/articles?page=0&size=5&sortBy=author"))
+            .andExpect(jsonPath("$.content", hasSize(2)));
+    }
+
+    @Test
+    public void createArticleEvictsPagesFromCache() throws Exception {
+        final URI url = URI.create(ARTICLES_BASE_ADDRESS + "?page=0&size=5&sort=title");
+        Mockito.when(restTemplate.getForObject(url, Object.class))
+            .thenReturn(PageResult.builder().content(List.of(new ArticleSummaryDto())).build())
+            .thenReturn(PageResult.builder().content(List.of(new ArticleSummaryDto(), new ArticleSummaryDto())).build());
+        ArticleDto articleDto = ArticleDto.builder()
+            .title("Some tittle value")
+            .text("Some text")
+            .author("Some author")
+            .build();
+
+        mockMvc.perform(get("/api/v1/articles?page=0&size=5"))
+            .andExpect(jsonPath("$.content", hasSize(1)));
+        mockMvc.perform(post("/api/v1/articles")
+                .contentType(APPLICATION_JSON)
+                .content(json(articleDto))
+            )
+            .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/v1/articles?page=0&size=5"))
+            .andExpect(jsonPath("$.content", hasSize(2)));
+    }
+
+    @Test
+    public void readArticlesScrolled() throws Exception {
+        var keysetPageResult = KeysetPageResult.builder()
+            .content(List.of(new ArticleSummaryDto(), new ArticleSummaryDto()))
+            .size(2)
+            .nextCursor("next-cursor")
+            .build();
+        final URI uri = URI.create(ARTICLES_BASE_ADDRESS
+            + "/scroll?author=Ivan%20Petrov&sortBy=TITLE&direction=ASC&size=2&cursor=some-cursor");
+        Mockito.when(restTemplate.getForObject(uri, KeysetPageResult.class))
+            .thenReturn(keysetPageResult);
+
+        mockMvc.perform(get("/api/v1/articles/scroll?author=Ivan Petrov&size=2&cursor=some-cursor"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(2)))
+            .andExpect(jsonPath("$.size", is(2)))
+            .andExpect(jsonPath("$.nextCursor", is("next-cursor")));
+    }
+
+    @Test
+    public void readChanges() throws Exception {
+        var articleChangesResult = ArticleChangesResult.builder()
+            .content(List.of(ArticleChangeDto.builder().id(1L).deleted(true).build()))
+            .size(2)
+            .build();
+        final URI url = URI.create(ARTICLES_BASE_ADDRESS + "/changes?since=2020-01-01T10:00:30.500&size=2");
+        Mockito.when(restTemplate.getForObject(url, ArticleChangesResult.class))
+            .thenReturn(articleChangesResult);
+
+        mockMvc.perform(get("/api/v1/articles/changes?since=2020-01-01T10:00:30.500&size=2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(1)))
+            .andExpect(jsonPath("$.content[0].deleted", is(true)))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    public void lookupArticles() throws Exception {
+        var articles = new ArticleSummaryDto[]{ArticleSummaryDto.builder().id(1L).rank(0.6f).build()};
+        final URI uri = URI.create(ARTICLES_BASE_ADDRESS + "/lookup?q=Petrov&threshold=0.5&limit=10");
+        Mockito.when(restTemplate.getForObject(uri, ArticleSummaryDto[].class))
+            .thenReturn(articles);
+
+        mockMvc.perform(get("/api/v1/articles/lookup?q=Petrov&threshold=0.5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].rank", is(0.6)));
+    }
+
+    @Test
+    public void searchArticles() throws Exception {
+        var keysetPageResult = KeysetPageResult.builder()
+            .content(List.of(ArticleSummaryDto.builder().id(1L).rank(0.5f).build()))
+            .size(2)
+            .build();
+        final URI uri = URI.create(ARTICLES_BASE_ADDRESS + "/search?q=java%20spring&size=2");
+        Mockito.when(restTemplate.getForObject(uri, KeysetPageResult.class))
+            .thenReturn(keysetPageResult);
+
+        mockMvc.perform(get("/api/v1/articles/search?q=java spring&size=2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(1)))
+            .andExpect(jsonPath("$.content[0].rank", is(0.5)))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
     @Test
     public void updateArticleTitle() throws Exception {
         ArticleUpdateDto articleUpdateDto = ArticleUpdateDto.builder()
@@ -353,7 +628,7 @@ class ArticleControllerTest {
     @Test
     public void updateArticleSummary() throws Exception {
         ArticleUpdateDto articleUpdateDto = ArticleUpdateDto.builder()
-            .summary("Some summary value")
+            .summary(Optional.of("Some summary value"))
             .build();
 
         mockMvc.perform(patch("/api/v1/articles/2")
@@ -375,6 +650,71 @@ class ArticleControllerTest {
             .andExpect(status().isOk());
     }
 
+    @Test
+    public void patchArticle() throws Exception {
+        final Long ARTICLE_ID = 123L;
+        ArticleUpdateDto articleUpdateDto = ArticleUpdateDto.builder()
+            .title("Some title value")
+            .summary(Optional.of("Some summary value"))
+            .build();
+
+        mockMvc.perform(patch("/api/v1/articles/" + ARTICLE_ID)
+                .contentType(ArticleUpdateDto.MERGE_PATCH_JSON_VALUE)
+                .content(json(articleUpdateDto))
+            )
+            .andExpect(status().isOk());
+
+        var captor = ArgumentCaptor.forClass(HttpEntity.class);
+        Mockito.verify(restTemplate)
+            .patchForObject(eq(ARTICLES_BASE_ADDRESS + "/" + ARTICLE_ID), captor.capture(), eq(String.class));
+        assertThat(captor.getValue().getBody(), is(articleUpdateDto));
+    }
+
+    @Test
+    public void patchArticleWithEmptyTitle() throws Exception {
+        ArticleUpdateDto articleUpdateDto = ArticleUpdateDto.builder()
+            .title("")
+            .summary(Optional.of("Some summary value"))
+            .build();
+
+        String message = mockMvc.perform(patch("/api/v1/articles/2")
+                .contentType(ArticleUpdateDto.MERGE_PATCH_JSON_VALUE)
+                .content(json(articleUpdateDto))
+            )
+            .andExpect(status().isBadRequest())
+            .andReturn().getResolvedException().getMessage();
+        assertThat(message, containsString("Title length must be between 1 and 100"));
+    }
+
+    @Test
+    public void patchArticleRemovingSummary() throws Exception {
+        final Long ARTICLE_ID = 123L;
+
+        mockMvc.perform(patch("/api/v1/articles/" + ARTICLE_ID)
+                .contentType(ArticleUpdateDto.MERGE_PATCH_JSON_VALUE)
+                .content("{\"summary\":null}")
+            )
+            .andExpect(status().isOk());
+
+        var captor = ArgumentCaptor.forClass(HttpEntity.class);
+        Mockito.verify(restTemplate)
+            .patchForObject(eq(ARTICLES_BASE_ADDRESS + "/" + ARTICLE_ID), captor.capture(), eq(String.class));
+        assertThat(captor.getValue().getBody(), is(ArticleUpdateDto.builder().summary(Optional.empty()).build()));
+        assertThat(json(captor.getValue().getBody()), is("{\"summary\":null}"));
+    }
+
+    @Test
+    public void patchArticleWithNullTitle() throws Exception {
+        String message = mockMvc.perform(patch("/api/v1/articles/2")
+                .contentType(ArticleUpdateDto.MERGE_PATCH_JSON_VALUE)
+                .content("{\"title\":null,\"text\":\"Some text value\"}")
+            )
+            .andExpect(status().isBadRequest())
+            .andReturn().getResolvedException().getMessage();
+        assertThat(message, containsString("title"));
+        Mockito.verifyNoInteractions(restTemplate);
+    }
+
     @Test
     public void updateAbsentArticle() throws Exception {
         final Long ARTICLE_ID = 123L;
@@ -426,7 +766,7 @@ class ArticleControllerTest {
     @Test
     public void updateArticleWithTooLongSummary() throws Exception {
         ArticleUpdateDto articleUpdateDto = ArticleUpdateDto.builder()
-            .summary(createStringWithLength(260))
+            .summary(Optional.of(createStringWithLength(260)))
             .build();
 
         String message = mockMvc.perform(patch("/api/v1/articles/2")
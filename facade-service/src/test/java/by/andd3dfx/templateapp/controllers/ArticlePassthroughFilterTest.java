@@ -0,0 +1,180 @@
+package by.andd3dfx.templateapp.controllers;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withException;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import by.andd3dfx.templateapp.dto.PageResult;
+import by.andd3dfx.templateapp.error.GlobalExceptionHandler;
+import by.andd3dfx.templateapp.error.dto.ExceptionResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.support.StaticWebApplicationContext;
+import org.springframework.web.servlet.mvc.method.annotation.ExceptionHandlerExceptionResolver;
+
+class ArticlePassthroughFilterTest {
+
+    private final String ARTICLES_SERVICE_URL = "http://localhost:8989/api/v1/articles";
+
+    // The same defaults as of ObjectMapper of application
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+    private MockRestServiceServer server;
+    private ArticlePassthroughFilter filter;
+
+    @BeforeEach
+    void before() {
+        var restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        filter = new ArticlePassthroughFilter(restTemplate, objectMapper, exceptionResolver());
+        ReflectionTestUtils.setField(filter, "articlesServiceUrl", ARTICLES_SERVICE_URL);
+    }
+
+    /**
+     * Resolver of exceptions by {@link GlobalExceptionHandler}, the same as in application context.
+     */
+    private ExceptionHandlerExceptionResolver exceptionResolver() {
+        var context = new StaticWebApplicationContext();
+        context.registerSingleton("globalExceptionHandler", GlobalExceptionHandler.class);
+        context.refresh();
+        var resolver = new ExceptionHandlerExceptionResolver();
+        resolver.setMessageConverters(List.of(new MappingJackson2HttpMessageConverter(objectMapper)));
+        resolver.setApplicationContext(context);
+        resolver.afterPropertiesSet();
+        return resolver;
+    }
+
+    @Test
+    void readArticle() throws Exception {
+        var body = "{\"id\":123,\"title\":\"Some title\"}";
+        server.expect(requestTo(ARTICLES_SERVICE_URL + "/123"))
+            .andExpect(method(HttpMethod.GET))
+            .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+        var chain = new MockFilterChain();
+        var response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/articles/123"), response, chain);
+
+        server.verify();
+        assertThat(response.getStatus(), is(200));
+        assertThat(response.getContentType(), is(MediaType.APPLICATION_JSON_VALUE));
+        assertThat(response.getContentAsString(), is(body));
+        assertThat("Controller shouldn't be called", chain.getRequest(), nullValue());
+    }
+
+    @Test
+    void readAbsentArticle() throws Exception {
+        var body = "{\"message\":\"Could not find an article by id=9999\"}";
+        server.expect(requestTo(ARTICLES_SERVICE_URL + "/9999"))
+            .andRespond(withStatus(HttpStatus.NOT_FOUND).contentType(MediaType.APPLICATION_JSON).body(body));
+        var response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/articles/9999"), response, new MockFilterChain());
+
+        server.verify();
+        assertThat(response.getStatus(), is(404));
+        var exceptionResponse = objectMapper.readValue(response.getContentAsString(), ExceptionResponse.class);
+        assertThat(exceptionResponse.getCode(), is("NOT_FOUND"));
+        assertThat(exceptionResponse.getMessage(), is("404 Not Found: \"" + body + "\""));
+    }
+
+    @Test
+    void readArticleWhenArticlesServiceUnavailable() {
+        server.expect(requestTo(ARTICLES_SERVICE_URL + "/123"))
+            .andRespond(withException(new IOException("Connection refused")));
+
+        assertThrows(ResourceAccessException.class, () -> filter.doFilter(
+            new MockHttpServletRequest("GET", "/api/v1/articles/123"), new MockHttpServletResponse(),
+            new MockFilterChain()));
+    }
+
+    @Test
+    void readArticlesPaged() throws Exception {
+        var body = "{\"content\":[{\"id\":1,\"title\":\"Some title\",\"dateCreated\":\"2020-01-01T10:00:30.5\"}],"
+            + "\"pageable\":{\"sort\":{\"sorted\":true},\"offset\":60},\"last\":true,\"totalPages\":4,"
+            + "\"totalElements\":61,\"size\":20,\"number\":3,\"first\":false,\"numberOfElements\":1}";
+        server.expect(requestTo(ARTICLES_SERVICE_URL + "?page=3&size=20&sort=author%2CDESC"))
+            .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+        var request = new MockHttpServletRequest("GET", "/api/v1/articles");
+        request.setParameter("page", "3");
+        request.setParameter("size", "20");
+        request.setParameter("sortBy", "author,DESC");
+        var response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        server.verify();
+        assertThat(response.getContentType(), is(MediaType.APPLICATION_JSON_VALUE));
+        assertThat("Page should be the same as in usual mode", response.getContentAsString(),
+            is(objectMapper.writeValueAsString(objectMapper.readValue(body, PageResult.class))));
+    }
+
+    @Test
+    void readArticlesPagedWithReservedCharsInSort() throws Exception {
+        server.expect(requestTo(ARTICLES_SERVICE_URL + "?page=0&size=50&sort=title%26size%3D1000%7Bx%7D"))
+            .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+        var request = new MockHttpServletRequest("GET", "/api/v1/articles");
+        request.setParameter("sortBy", "title&size=1000{x}");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        server.verify();
+    }
+
+    @Test
+    void readArticlesPagedWithDefaults() throws Exception {
+        server.expect(requestTo(ARTICLES_SERVICE_URL + "?page=0&size=50&sort=title"))
+            .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/articles"), new MockHttpServletResponse(),
+            new MockFilterChain());
+
+        server.verify();
+    }
+
+    @Test
+    void notReadRequestGoesToController() throws Exception {
+        var chain = new MockFilterChain();
+        var request = new MockHttpServletRequest("DELETE", "/api/v1/articles/123");
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        server.verify();
+        assertThat(chain.getRequest(), is(request));
+    }
+
+    @Test
+    void invalidParametersGoToController() throws Exception {
+        var chain = new MockFilterChain();
+        var request = new MockHttpServletRequest("GET", "/api/v1/articles");
+        request.setParameter("page", "first");
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        server.verify();
+        assertThat(chain.getRequest(), is(request));
+    }
+}
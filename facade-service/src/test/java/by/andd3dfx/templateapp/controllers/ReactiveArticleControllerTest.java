@@ -0,0 +1,101 @@
+package by.andd3dfx.templateapp.controllers;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
+
+import by.andd3dfx.templateapp.dto.ArticleDto;
+import by.andd3dfx.templateapp.services.IReactiveArticleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@SpringBootTest
+@WebAppConfiguration
+@ActiveProfiles("reactive")
+class ReactiveArticleControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+    @MockBean
+    private IReactiveArticleService articleService;
+
+    @BeforeEach
+    public void setup() {
+        mockMvc = webAppContextSetup(webApplicationContext)
+            .build();
+    }
+
+    @Test
+    public void readArticle() throws Exception {
+        when(articleService.read(1L)).thenReturn(Mono.just(ArticleDto.builder().id(1L).title("Some title").build()));
+
+        var mvcResult = mockMvc.perform(get("/api/v1/articles/1"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id", is(1)))
+            .andExpect(jsonPath("$.title", is("Some title")));
+    }
+
+    @Test
+    public void readAbsentArticle() throws Exception {
+        when(articleService.read(9999L)).thenReturn(Mono.error(
+            WebClientResponseException.create(HttpStatus.NOT_FOUND.value(), "Not Found", null, null, null)));
+
+        var mvcResult = mockMvc.perform(get("/api/v1/articles/9999"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void deleteArticle() throws Exception {
+        when(articleService.delete(1L)).thenReturn(Mono.empty());
+
+        var mvcResult = mockMvc.perform(delete("/api/v1/articles/1"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isNoContent());
+    }
+
+    @Test
+    public void exportArticles() throws Exception {
+        when(articleService.exportArticles()).thenReturn(Flux.just("{\"id\":1}\n", "{\"id\":2}\n"));
+
+        var mvcResult = mockMvc.perform(get("/api/v1/articles/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
+}
@@ -3,26 +3,50 @@ package by.andd3dfx.templateapp.services.impl;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
-
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import by.andd3dfx.templateapp.dto.ArticleAuthorUpdateDto;
+import by.andd3dfx.templateapp.dto.ArticleChangeDto;
+import by.andd3dfx.templateapp.dto.ArticleChangesResult;
 import by.andd3dfx.templateapp.dto.ArticleDto;
+import by.andd3dfx.templateapp.dto.ArticleSummaryDto;
 import by.andd3dfx.templateapp.dto.ArticleUpdateDto;
+import by.andd3dfx.templateapp.dto.BulkResultDto;
+import by.andd3dfx.templateapp.dto.KeysetPageResult;
 import by.andd3dfx.templateapp.dto.PageResult;
+import by.andd3dfx.templateapp.util.RequestCoalescer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
@@ -35,6 +59,9 @@ class ArticleServiceTest {
     private RestTemplate restTemplate;
     @Mock
     private ObjectMapper objectMapper;
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer(new ObjectMapper().findAndRegisterModules(),
+        new SimpleMeterRegistry());
 
     @Mock
     private Clock clockMock;
@@ -66,6 +93,18 @@ class ArticleServiceTest {
         assertThat(result, is(updatedArticleDto));
     }
 
+    @Test
+    void createAll() {
+        List<ArticleDto> articleDtos = List.of(ArticleDto.builder().build(), ArticleDto.builder().build());
+        ArticleDto[] createdArticleDtos = {ArticleDto.builder().id(1L).build(), ArticleDto.builder().id(2L).build()};
+        when(restTemplate.postForObject(ARTICLES_SERVICE_URL + "/batch", articleDtos, ArticleDto[].class))
+            .thenReturn(createdArticleDtos);
+
+        List<ArticleDto> result = articleService.createAll(articleDtos);
+
+        assertThat(result, is(List.of(createdArticleDtos)));
+    }
+
     @Test
     void get() {
         final Long ARTICLE_ID = 123L;
@@ -107,6 +146,24 @@ class ArticleServiceTest {
             .patchForObject(ARTICLES_SERVICE_URL + "/" + ARTICLE_ID, articleUpdateDto, String.class);
     }
 
+    @Test
+    void patch() {
+        final Long ARTICLE_ID = 123L;
+        ArticleUpdateDto articleUpdateDto = ArticleUpdateDto.builder()
+            .title("New title")
+            .text("New text")
+            .build();
+
+        articleService.patch(ARTICLE_ID, articleUpdateDto);
+
+        var captor = ArgumentCaptor.forClass(HttpEntity.class);
+        Mockito.verify(restTemplate)
+            .patchForObject(eq(ARTICLES_SERVICE_URL + "/" + ARTICLE_ID), captor.capture(), eq(String.class));
+        assertThat(captor.getValue().getBody(), is(articleUpdateDto));
+        assertThat(captor.getValue().getHeaders().getContentType(),
+            is(MediaType.valueOf(ArticleUpdateDto.MERGE_PATCH_JSON_VALUE)));
+    }
+
     @Test
     void updateAbsentArticle() {
         final Long ARTICLE_ID = 123L;
@@ -136,6 +193,40 @@ class ArticleServiceTest {
         Mockito.verify(restTemplate).delete(ARTICLES_SERVICE_URL + "/" + ARTICLE_ID);
     }
 
+    @Test
+    void deleteAll() {
+        var uri = URI.create(ARTICLES_SERVICE_URL + "?ids=1&ids=2");
+        when(restTemplate.exchange(uri, HttpMethod.DELETE, null, BulkResultDto.class))
+            .thenReturn(ResponseEntity.ok(new BulkResultDto(2)));
+
+        BulkResultDto result = articleService.deleteAll(List.of(1L, 2L));
+
+        assertThat(result.getAffected(), is(2));
+    }
+
+    @Test
+    void deleteByAuthor() {
+        var uri = URI.create(ARTICLES_SERVICE_URL + "?author=Smith%20%26%20Sons");
+        when(restTemplate.exchange(uri, HttpMethod.DELETE, null, BulkResultDto.class))
+            .thenReturn(ResponseEntity.ok(new BulkResultDto(3)));
+
+        BulkResultDto result = articleService.deleteByAuthor("Smith & Sons");
+
+        assertThat(result.getAffected(), is(3));
+    }
+
+    @Test
+    void updateAuthor() {
+        var uri = URI.create(ARTICLES_SERVICE_URL + "?author=Some%20author");
+        var articleAuthorUpdateDto = new ArticleAuthorUpdateDto("New author");
+        when(restTemplate.patchForObject(uri, articleAuthorUpdateDto, BulkResultDto.class))
+            .thenReturn(new BulkResultDto(3));
+
+        BulkResultDto result = articleService.updateAuthor("Some author", articleAuthorUpdateDto);
+
+        assertThat(result.getAffected(), is(3));
+    }
+
     @Test
     void deleteAbsentArticle() {
         final Long ARTICLE_ID = 123L;
@@ -155,25 +246,149 @@ class ArticleServiceTest {
 
     @Test
     void readArticles() {
-        var articleDto = new ArticleDto();
         var pageResult = PageResult.builder()
-            .content(List.of(articleDto))
+            .content(List.of(new ArticleSummaryDto()))
             .build();
 
         var pageSize = 20;
         var pageNumber = 3;
         var sortBy = "title,ASC";
 
-        final String url = String.format("%s?page=%d&size=%d", ARTICLES_SERVICE_URL, pageNumber, pageSize);
+        final URI uri = URI.create(String.format("%s?page=%d&size=%d&sort=title%%2CASC", ARTICLES_SERVICE_URL,
+            pageNumber, pageSize));
         Object object = new Object();
-        Mockito.when(restTemplate.getForObject(url, Object.class))
+        Mockito.when(restTemplate.getForObject(uri, Object.class))
             .thenReturn(object);
         when(objectMapper.convertValue(object, PageResult.class)).thenReturn(pageResult);
 
         PageResult result = articleService.readArticles(pageNumber, pageSize, sortBy);
 
-        Mockito.verify(restTemplate).getForObject(url, Object.class);
+        Mockito.verify(restTemplate).getForObject(uri, Object.class);
         Mockito.verify(objectMapper).convertValue(object, PageResult.class);
         assertThat(result, is(pageResult));
     }
+
+    @Test
+    void readArticlesWithReservedCharsInSort() {
+        final URI uri = URI.create(ARTICLES_SERVICE_URL + "?page=0&size=20&sort=title%26size%3D1000%7Bx%7D");
+        Object object = new Object();
+        Mockito.when(restTemplate.getForObject(uri, Object.class))
+            .thenReturn(object);
+        when(objectMapper.convertValue(object, PageResult.class)).thenReturn(new PageResult());
+
+        articleService.readArticles(0, 20, "title&size=1000{x}");
+
+        Mockito.verify(restTemplate).getForObject(uri, Object.class);
+    }
+
+    @Test
+    void scrollArticles() {
+        var keysetPageResult = KeysetPageResult.builder()
+            .content(List.of(new ArticleSummaryDto()))
+            .nextCursor("next-cursor")
+            .build();
+        final URI uri = URI.create(ARTICLES_SERVICE_URL
+            + "/scroll?sortBy=TITLE&direction=ASC&size=20&cursor=some-cursor");
+        Mockito.when(restTemplate.getForObject(uri, KeysetPageResult.class))
+            .thenReturn(keysetPageResult);
+
+        KeysetPageResult result = articleService.scrollArticles(null, "TITLE", "ASC", 20, "some-cursor");
+
+        Mockito.verify(restTemplate).getForObject(uri, KeysetPageResult.class);
+        assertThat(result, is(keysetPageResult));
+    }
+
+    @Test
+    void scrollArticlesOfAuthor() {
+        var keysetPageResult = KeysetPageResult.builder()
+            .content(List.of(new ArticleSummaryDto()))
+            .build();
+        final URI uri = URI.create(ARTICLES_SERVICE_URL
+            + "/scroll?author=Smith%20%26%20Sons&sortBy=DATE_CREATED&direction=DESC&size=20");
+        Mockito.when(restTemplate.getForObject(uri, KeysetPageResult.class))
+            .thenReturn(keysetPageResult);
+
+        KeysetPageResult result = articleService.scrollArticles("Smith & Sons", "DATE_CREATED", "DESC", 20, null);
+
+        Mockito.verify(restTemplate).getForObject(uri, KeysetPageResult.class);
+        assertThat(result, is(keysetPageResult));
+    }
+
+    @Test
+    void scrollArticlesWithReservedChars() {
+        final URI uri = URI.create(ARTICLES_SERVICE_URL
+            + "/scroll?sortBy=TITLE%26size%3D1000&direction=%7BASC%7D&size=20&cursor=a%26b");
+        Mockito.when(restTemplate.getForObject(uri, KeysetPageResult.class))
+            .thenReturn(new KeysetPageResult());
+
+        articleService.scrollArticles(null, "TITLE&size=1000", "{ASC}", 20, "a&b");
+
+        Mockito.verify(restTemplate).getForObject(uri, KeysetPageResult.class);
+    }
+
+    @Test
+    void readChanges() {
+        var articleChangesResult = ArticleChangesResult.builder()
+            .content(List.of(ArticleChangeDto.builder().id(1L).deleted(true).build()))
+            .nextCursor("next-cursor")
+            .build();
+        final URI url = URI.create(ARTICLES_SERVICE_URL + "/changes?since=2020-01-01T10:00&size=20");
+        Mockito.when(restTemplate.getForObject(url, ArticleChangesResult.class))
+            .thenReturn(articleChangesResult);
+
+        ArticleChangesResult result = articleService.readChanges(LocalDateTime.parse("2020-01-01T10:00:00"), 20,
+            null);
+
+        Mockito.verify(restTemplate).getForObject(url, ArticleChangesResult.class);
+        assertThat(result, is(articleChangesResult));
+    }
+
+    @Test
+    void exportArticles() {
+        var body = "{\"id\":1,\"title\":\"Title 1\"}\n{\"id\":2,\"title\":\"Title 2\"}\n";
+        var restTemplate = new RestTemplate();
+        var server = MockRestServiceServer.bindTo(restTemplate).build();
+        server.expect(requestTo(ARTICLES_SERVICE_URL + "/export"))
+            .andExpect(method(HttpMethod.GET))
+            .andExpect(header("Accept", MediaType.APPLICATION_NDJSON_VALUE))
+            .andRespond(withSuccess(body, MediaType.APPLICATION_NDJSON));
+        var articleService = new ArticleService(restTemplate, objectMapper, requestCoalescer);
+        ReflectionTestUtils.setField(articleService, "articlesServiceUrl", ARTICLES_SERVICE_URL);
+        var outputStream = new ByteArrayOutputStream();
+
+        articleService.exportArticles(outputStream);
+
+        server.verify();
+        assertThat(outputStream.toString(StandardCharsets.UTF_8), is(body));
+    }
+
+    @Test
+    void lookupArticles() {
+        var articles = new ArticleSummaryDto[]{ArticleSummaryDto.builder().id(1L).rank(0.6f).build()};
+        final URI uri = URI.create(ARTICLES_SERVICE_URL
+            + "/lookup?q=%D0%94%D0%BE%D1%80%D0%BE%D1%84%D0%B9&threshold=0.3&limit=10");
+        Mockito.when(restTemplate.getForObject(uri, ArticleSummaryDto[].class))
+            .thenReturn(articles);
+
+        List<ArticleSummaryDto> result = articleService.lookupArticles("Дорофй", 0.3f, 10);
+
+        Mockito.verify(restTemplate).getForObject(uri, ArticleSummaryDto[].class);
+        assertThat(result, is(List.of(articles)));
+    }
+
+    @Test
+    void searchArticles() {
+        var keysetPageResult = KeysetPageResult.builder()
+            .content(List.of(ArticleSummaryDto.builder().rank(0.5f).build()))
+            .build();
+        final URI uri = URI.create(ARTICLES_SERVICE_URL
+            + "/search?q=%D0%BA%D0%BE%D1%82%D0%BB%D0%B5%D1%82%D1%8B%20%26%20%2Bc%2B%2B&size=20&cursor=some-cursor");
+        Mockito.when(restTemplate.getForObject(uri, KeysetPageResult.class))
+            .thenReturn(keysetPageResult);
+
+        KeysetPageResult result = articleService.searchArticles("котлеты & +c++", 20, "some-cursor");
+
+        Mockito.verify(restTemplate).getForObject(uri, KeysetPageResult.class);
+        assertThat(result, is(keysetPageResult));
+    }
 }
@@ -0,0 +1,261 @@
+package by.andd3dfx.templateapp.services.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import by.andd3dfx.templateapp.dto.ArticleAuthorUpdateDto;
+import by.andd3dfx.templateapp.dto.ArticleDto;
+import by.andd3dfx.templateapp.dto.ArticleUpdateDto;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+class ReactiveArticleServiceTest {
+
+    private final String ARTICLES_SERVICE_URL = "http://localhost:8989/api/v1/articles";
+
+    private final List<ClientRequest> requests = new ArrayList<>();
+    private ClientResponse response;
+
+    private ReactiveArticleService articleService;
+
+    @BeforeEach
+    void before() {
+        var webClient = WebClient.builder()
+            .baseUrl(ARTICLES_SERVICE_URL)
+            .exchangeFunction(request -> {
+                requests.add(request);
+                return Mono.just(response);
+            })
+            .build();
+        articleService = new ReactiveArticleService(webClient);
+    }
+
+    @Test
+    void create() {
+        response = jsonResponse(HttpStatus.CREATED, "{\"id\":123,\"title\":\"Some title\"}");
+
+        ArticleDto result = articleService.create(ArticleDto.builder().title("Some title").build()).block();
+
+        assertThat(result.getId(), is(123L));
+        assertThat(result.getTitle(), is("Some title"));
+        assertRequest(HttpMethod.POST, ARTICLES_SERVICE_URL);
+    }
+
+    @Test
+    void createAll() {
+        response = jsonResponse(HttpStatus.CREATED, "[{\"id\":123},{\"id\":124}]");
+
+        List<ArticleDto> result = articleService.createAll(
+            List.of(ArticleDto.builder().title("Some title").build(), ArticleDto.builder().title("Another").build()))
+            .block();
+
+        assertThat(result.size(), is(2));
+        assertThat(result.get(1).getId(), is(124L));
+        assertRequest(HttpMethod.POST, ARTICLES_SERVICE_URL + "/batch");
+    }
+
+    @Test
+    void get() {
+        final Long ARTICLE_ID = 123L;
+        response = jsonResponse(HttpStatus.OK, "{\"id\":123}");
+
+        ArticleDto result = articleService.read(ARTICLE_ID).block();
+
+        assertThat(result.getId(), is(ARTICLE_ID));
+        assertRequest(HttpMethod.GET, ARTICLES_SERVICE_URL + "/" + ARTICLE_ID);
+    }
+
+    @Test
+    void getAbsentArticle() {
+        final Long ARTICLE_ID = 123L;
+        response = ClientResponse.create(HttpStatus.NOT_FOUND).build();
+
+        var ex = assertThrows(WebClientResponseException.class, () -> articleService.read(ARTICLE_ID).block());
+
+        assertThat(ex.getStatusCode(), is(HttpStatus.NOT_FOUND));
+        assertRequest(HttpMethod.GET, ARTICLES_SERVICE_URL + "/" + ARTICLE_ID);
+    }
+
+    @Test
+    void update() {
+        final Long ARTICLE_ID = 123L;
+        response = ClientResponse.create(HttpStatus.OK).build();
+
+        articleService.update(ARTICLE_ID, new ArticleUpdateDto()).block();
+
+        assertRequest(HttpMethod.PATCH, ARTICLES_SERVICE_URL + "/" + ARTICLE_ID);
+    }
+
+    @Test
+    void patch() {
+        final Long ARTICLE_ID = 123L;
+        response = ClientResponse.create(HttpStatus.OK).build();
+
+        articleService.patch(ARTICLE_ID, ArticleUpdateDto.builder().title("New title").text("New text").build())
+            .block();
+
+        assertRequest(HttpMethod.PATCH, ARTICLES_SERVICE_URL + "/" + ARTICLE_ID);
+        assertThat(requests.get(0).headers().getContentType(),
+            is(MediaType.valueOf(ArticleUpdateDto.MERGE_PATCH_JSON_VALUE)));
+    }
+
+    @Test
+    void delete() {
+        final Long ARTICLE_ID = 123L;
+        response = ClientResponse.create(HttpStatus.NO_CONTENT).build();
+
+        articleService.delete(ARTICLE_ID).block();
+
+        assertRequest(HttpMethod.DELETE, ARTICLES_SERVICE_URL + "/" + ARTICLE_ID);
+    }
+
+    @Test
+    void deleteAll() {
+        response = jsonResponse(HttpStatus.OK, "{\"affected\":2}");
+
+        var result = articleService.deleteAll(List.of(1L, 2L)).block();
+
+        assertThat(result.getAffected(), is(2));
+        assertRequest(HttpMethod.DELETE, ARTICLES_SERVICE_URL + "?ids=1&ids=2");
+    }
+
+    @Test
+    void deleteByAuthor() {
+        response = jsonResponse(HttpStatus.OK, "{\"affected\":3}");
+
+        var result = articleService.deleteByAuthor("Smith & Sons").block();
+
+        assertThat(result.getAffected(), is(3));
+        assertRequest(HttpMethod.DELETE, ARTICLES_SERVICE_URL + "?author=Smith%20%26%20Sons");
+    }
+
+    @Test
+    void updateAuthor() {
+        response = jsonResponse(HttpStatus.OK, "{\"affected\":3}");
+
+        var result = articleService.updateAuthor("Some author", new ArticleAuthorUpdateDto("New author")).block();
+
+        assertThat(result.getAffected(), is(3));
+        assertRequest(HttpMethod.PATCH, ARTICLES_SERVICE_URL + "?author=Some%20author");
+    }
+
+    @Test
+    void readArticles() {
+        response = jsonResponse(HttpStatus.OK, "{\"content\":[{\"id\":1}],\"size\":20,\"number\":3,\"first\":false}");
+
+        var result = articleService.readArticles(3, 20, "title,ASC").block();
+
+        assertThat(result.getContent().size(), is(1));
+        assertThat(result.getSize(), is(20));
+        assertThat(result.getNumber(), is(3));
+        assertRequest(HttpMethod.GET, ARTICLES_SERVICE_URL + "?page=3&size=20&sort=title%2CASC");
+    }
+
+    private ClientResponse jsonResponse(HttpStatus status, String body) {
+        return ClientResponse.create(status)
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .body(body)
+            .build();
+    }
+
+    private void assertRequest(HttpMethod method, String url) {
+        assertThat(requests.size(), is(1));
+        assertThat(requests.get(0).method(), is(method));
+        assertThat(requests.get(0).url(), is(URI.create(url)));
+    }
+
+    @Test
+    void scrollArticles() {
+        response = jsonResponse(HttpStatus.OK, "{\"content\":[{\"id\":1}],\"size\":20,\"nextCursor\":\"next-cursor\"}");
+
+        var result = articleService.scrollArticles(null, "DATE_CREATED", "DESC", 20, null).block();
+
+        assertThat(result.getContent().size(), is(1));
+        assertThat(result.getNextCursor(), is("next-cursor"));
+        assertRequest(HttpMethod.GET, ARTICLES_SERVICE_URL + "/scroll?sortBy=DATE_CREATED&direction=DESC&size=20");
+    }
+
+    @Test
+    void scrollArticlesOfAuthor() {
+        response = jsonResponse(HttpStatus.OK, "{\"content\":[{\"id\":1}],\"size\":20}");
+
+        var result = articleService.scrollArticles("Smith & Sons", "DATE_CREATED", "DESC", 20, null).block();
+
+        assertThat(result.getContent().size(), is(1));
+        assertRequest(HttpMethod.GET,
+            ARTICLES_SERVICE_URL + "/scroll?author=Smith%20%26%20Sons&sortBy=DATE_CREATED&direction=DESC&size=20");
+    }
+
+    @Test
+    void scrollArticlesWithReservedChars() {
+        response = jsonResponse(HttpStatus.OK, "{\"content\":[],\"size\":20}");
+
+        articleService.scrollArticles(null, "TITLE&size=1000", "{ASC}", 20, "a&b").block();
+
+        assertRequest(HttpMethod.GET,
+            ARTICLES_SERVICE_URL + "/scroll?sortBy=TITLE%26size%3D1000&direction=%7BASC%7D&size=20&cursor=a%26b");
+    }
+
+    @Test
+    void readChanges() {
+        response = jsonResponse(HttpStatus.OK, "{\"content\":[{\"id\":1,\"deleted\":true,"
+            + "\"dateChanged\":\"2020-01-01T10:00:01\"}],\"size\":20,\"nextCursor\":\"next-cursor\"}");
+
+        var result = articleService.readChanges(null, 20, "some-cursor").block();
+
+        assertThat(result.getContent().get(0).isDeleted(), is(true));
+        assertThat(result.getNextCursor(), is("next-cursor"));
+        assertRequest(HttpMethod.GET, ARTICLES_SERVICE_URL + "/changes?size=20&cursor=some-cursor");
+    }
+
+    @Test
+    void exportArticles() {
+        var body = "{\"id\":1,\"title\":\"Title 1\"}\n{\"id\":2,\"title\":\"Title 2\"}\n";
+        response = ClientResponse.create(HttpStatus.OK)
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE)
+            .body(body)
+            .build();
+
+        var result = articleService.exportArticles().collectList().block();
+
+        assertThat(String.join("", result), is(body));
+        assertRequest(HttpMethod.GET, ARTICLES_SERVICE_URL + "/export");
+        assertThat(requests.get(0).headers().getAccept(), is(List.of(MediaType.APPLICATION_NDJSON)));
+    }
+
+    @Test
+    void lookupArticles() {
+        response = jsonResponse(HttpStatus.OK, "[{\"id\":1,\"rank\":0.6},{\"id\":2,\"rank\":0.4}]");
+
+        var result = articleService.lookupArticles("Ivan Petrov", 0.3f, 10).block();
+
+        assertThat(result.size(), is(2));
+        assertThat(result.get(0).getRank(), is(0.6f));
+        assertRequest(HttpMethod.GET, ARTICLES_SERVICE_URL + "/lookup?q=Ivan%20Petrov&threshold=0.3&limit=10");
+    }
+
+    @Test
+    void searchArticles() {
+        response = jsonResponse(HttpStatus.OK, "{\"content\":[{\"id\":1,\"rank\":0.5}],\"size\":20}");
+
+        var result = articleService.searchArticles("c++ & java", 20, null).block();
+
+        assertThat(result.getContent().get(0).getRank(), is(0.5f));
+        assertThat(result.getNextCursor(), nullValue());
+        assertRequest(HttpMethod.GET, ARTICLES_SERVICE_URL + "/search?q=c%2B%2B%20%26%20java&size=20");
+    }
+}
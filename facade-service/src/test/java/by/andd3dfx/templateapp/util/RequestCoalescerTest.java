@@ -0,0 +1,190 @@
+package by.andd3dfx.templateapp.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import by.andd3dfx.templateapp.dto.ArticleDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class RequestCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = spy(new ObjectMapper().findAndRegisterModules());
+    private final RequestCoalescer requestCoalescer = new RequestCoalescer(objectMapper, meterRegistry);
+
+    @Test
+    void executeConcurrentCalls() throws Exception {
+        var callsCount = new AtomicInteger();
+        var callStarted = new CountDownLatch(1);
+        var releaseCall = new CountDownLatch(1);
+        var result = buildArticle();
+        Supplier<ArticleDto> call = () -> {
+            callsCount.incrementAndGet();
+            callStarted.countDown();
+            await(releaseCall);
+            return result;
+        };
+
+        try (var executor = Executors.newFixedThreadPool(2)) {
+            Future<ArticleDto> first = executor.submit(() -> requestCoalescer.execute("key", call));
+            await(callStarted);
+            Future<ArticleDto> second = executor.submit(() -> requestCoalescer.execute("key", call));
+            waitForCollapsedCalls(1);
+            releaseCall.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS), sameInstance(result));
+            var secondResult = second.get(5, TimeUnit.SECONDS);
+            assertThat("Result shouldn't be shared", secondResult, not(sameInstance(result)));
+            assertThat(secondResult, is(buildArticle()));
+        }
+        assertThat(callsCount.get(), is(1));
+    }
+
+    @Test
+    void executeConcurrentCallsWhenResultChanged() throws Exception {
+        var callStarted = new CountDownLatch(1);
+        var releaseCall = new CountDownLatch(1);
+        Supplier<ArticleDto> call = () -> {
+            callStarted.countDown();
+            await(releaseCall);
+            return buildArticle();
+        };
+
+        try (var executor = Executors.newFixedThreadPool(2)) {
+            Future<ArticleDto> first = executor.submit(() -> {
+                var result = requestCoalescer.execute("key", call);
+                result.setTitle("Changed title");
+                return result;
+            });
+            await(callStarted);
+            Future<ArticleDto> second = executor.submit(() -> requestCoalescer.execute("key", call));
+            waitForCollapsedCalls(1);
+            releaseCall.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS).getTitle(), is("Changed title"));
+            assertThat(second.get(5, TimeUnit.SECONDS), is(buildArticle()));
+        }
+    }
+
+    @Test
+    void executeCallsWithDifferentKeys() {
+        assertThat(requestCoalescer.execute("key1", () -> "result1"), is("result1"));
+        assertThat(requestCoalescer.execute("key2", () -> "result2"), is("result2"));
+
+        assertThat(collapsedCalls(), is(0.0));
+    }
+
+    @Test
+    void executeSequentialCalls() {
+        var callsCount = new AtomicInteger();
+
+        requestCoalescer.execute("key", callsCount::incrementAndGet);
+        requestCoalescer.execute("key", callsCount::incrementAndGet);
+
+        assertThat("Completed call shouldn't be reused", callsCount.get(), is(2));
+        assertThat(collapsedCalls(), is(0.0));
+    }
+
+    @Test
+    void executeCallWithoutWaiters() throws Exception {
+        var result = buildArticle();
+
+        assertThat(requestCoalescer.execute("key", () -> result), sameInstance(result));
+
+        verify(objectMapper, never()).writeValueAsBytes(any());
+    }
+
+    @Test
+    void executeConcurrentCallsWhenSnapshotFailed() throws Exception {
+        var callStarted = new CountDownLatch(1);
+        var releaseCall = new CountDownLatch(1);
+        var result = new Object();
+        Supplier<Object> call = () -> {
+            callStarted.countDown();
+            await(releaseCall);
+            return result;
+        };
+
+        try (var executor = Executors.newFixedThreadPool(2)) {
+            Future<Object> first = executor.submit(() -> requestCoalescer.execute("key", call));
+            await(callStarted);
+            Future<Object> second = executor.submit(() -> requestCoalescer.execute("key", call));
+            waitForCollapsedCalls(1);
+            releaseCall.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS), sameInstance(result));
+            var ex = assertThrows(Exception.class, () -> second.get(5, TimeUnit.SECONDS));
+            assertThat(ex.getCause() instanceof IllegalStateException, is(true));
+        }
+    }
+
+    @Test
+    void executeConcurrentCallsWhenFailed() throws Exception {
+        var callStarted = new CountDownLatch(1);
+        var releaseCall = new CountDownLatch(1);
+        var exception = new IllegalStateException("Downstream failure");
+        Supplier<Object> call = () -> {
+            callStarted.countDown();
+            await(releaseCall);
+            throw exception;
+        };
+
+        try (var executor = Executors.newFixedThreadPool(2)) {
+            Future<Object> first = executor.submit(() -> requestCoalescer.execute("key", call));
+            await(callStarted);
+            Future<Object> second = executor.submit(() -> requestCoalescer.execute("key", call));
+            waitForCollapsedCalls(1);
+            releaseCall.countDown();
+
+            var ex = assertThrows(Exception.class, () -> second.get(5, TimeUnit.SECONDS));
+            assertThat(ex.getCause(), sameInstance(exception));
+            ex = assertThrows(Exception.class, () -> first.get(5, TimeUnit.SECONDS));
+            assertThat(ex.getCause(), sameInstance(exception));
+        }
+    }
+
+    private static ArticleDto buildArticle() {
+        return ArticleDto.builder()
+            .id(1L)
+            .title("Title")
+            .text("Text")
+            .author("Author")
+            .dateCreated(LocalDateTime.of(2026, 10, 18, 10, 0))
+            .build();
+    }
+
+    private double collapsedCalls() {
+        return meterRegistry.get("articles-service.requests.collapsed").counter().count();
+    }
+
+    private void waitForCollapsedCalls(int expected) throws InterruptedException {
+        for (int i = 0; i < 500 && collapsedCalls() < expected; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(collapsedCalls(), is((double) expected));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package by.andd3dfx.templateapp.virtualthreads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Detects virtual threads pinned to their carrier thread (blocking inside `synchronized` block or native frame)
+ * using JFR `jdk.VirtualThreadPinned` event.
+ * <p>
+ * Each pinning longer than threshold is recorded to `jvm.threads.virtual.pinned` timer and logged with top frames
+ * of its stack trace.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements MeterBinder, SmartLifecycle {
+
+    private static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+    private volatile Timer pinnedTimer;
+    private volatile RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        pinnedTimer = Timer.builder("jvm.threads.virtual.pinned")
+            .description("Virtual threads pinned to carrier thread while blocked")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        var stream = new RecordingStream();
+        stream.enable(EVENT_NAME).withThreshold(threshold).withStackTrace();
+        stream.setMaxAge(Duration.ofMinutes(1));
+        stream.onEvent(EVENT_NAME, this::onPinned);
+        stream.startAsync();
+        recordingStream = stream;
+    }
+
+    @Override
+    public void stop() {
+        recordingStream.close();
+        recordingStream = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        if (pinnedTimer != null) {
+            pinnedTimer.record(event.getDuration());
+        }
+        log.warn("Virtual thread pinned for {} ms:{}", event.getDuration().toMillis(), formatStackTrace(event));
+    }
+
+    private static String formatStackTrace(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "";
+        }
+        return event.getStackTrace().getFrames().stream()
+            .limit(LOGGED_FRAMES)
+            .map(VirtualThreadPinningMonitor::formatFrame)
+            .collect(Collectors.joining());
+    }
+
+    private static String formatFrame(RecordedFrame frame) {
+        var method = frame.getMethod();
+        return "\n\tat " + method.getType().getName() + "." + method.getName() + ":" + frame.getLineNumber();
+    }
+}
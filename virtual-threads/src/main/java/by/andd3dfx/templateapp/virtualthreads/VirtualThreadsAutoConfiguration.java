@@ -0,0 +1,47 @@
+package by.andd3dfx.templateapp.virtualthreads;
+
+import java.util.concurrent.Executors;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Opt-in mode which runs request handling and async tasks on virtual threads instead of bounded thread pools.
+ * Enabled by `virtual-threads.enabled` property.
+ */
+@AutoConfiguration(before = TaskExecutionAutoConfiguration.class)
+@ConditionalOnProperty(name = VirtualThreadsAutoConfiguration.ENABLED_PROPERTY, havingValue = "true")
+@EnableConfigurationProperties(VirtualThreadsProperties.class)
+@EnableAsync
+public class VirtualThreadsAutoConfiguration {
+
+    public static final String ENABLED_PROPERTY = "virtual-threads.enabled";
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadsProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-vt-", 0).factory()));
+    }
+
+    /**
+     * Used for `@Async` methods and async MVC requests.
+     */
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+        AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("task-vt-", 0).factory()));
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(VirtualThreadsProperties properties) {
+        return new VirtualThreadPinningMonitor(properties.getPinningThreshold());
+    }
+}
@@ -0,0 +1,20 @@
+package by.andd3dfx.templateapp.virtualthreads;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Opt-in virtual threads mode, see {@link VirtualThreadsAutoConfiguration}.
+ */
+@Data
+@ConfigurationProperties(prefix = "virtual-threads")
+public class VirtualThreadsProperties {
+
+    private boolean enabled;
+
+    /**
+     * Pinning of carrier thread longer than this is logged and recorded to `jvm.threads.virtual.pinned` metric.
+     */
+    private Duration pinningThreshold = Duration.ofMillis(20);
+}
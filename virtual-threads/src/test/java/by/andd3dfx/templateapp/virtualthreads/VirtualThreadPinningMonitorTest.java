@@ -0,0 +1,47 @@
+package by.andd3dfx.templateapp.virtualthreads;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(10));
+
+    @AfterEach
+    void after() {
+        monitor.stop();
+    }
+
+    @Test
+    void recordPinnedThread() throws Exception {
+        monitor.bindTo(meterRegistry);
+        monitor.start();
+
+        Object lock = new Object();
+        Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                sleep(50);
+            }
+        }).join();
+
+        var timer = meterRegistry.get("jvm.threads.virtual.pinned").timer();
+        for (int i = 0; i < 100 && timer.count() == 0; i++) {
+            sleep(100);
+        }
+        assertThat(timer.count(), is(1L));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package by.andd3dfx.templateapp.virtualthreads;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+class VirtualThreadsAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(
+            VirtualThreadsAutoConfiguration.class, TaskExecutionAutoConfiguration.class));
+
+    @Test
+    void disabledByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context.getBeansOfType(VirtualThreadPinningMonitor.class).isEmpty(), is(true));
+            assertThat(context.getBeansOfType(AsyncAnnotationBeanPostProcessor.class).isEmpty(), is(true));
+        });
+    }
+
+    @Test
+    void enabled() {
+        contextRunner.withPropertyValues("virtual-threads.enabled=true").run(context -> {
+            assertThat(context.getBeansOfType(VirtualThreadPinningMonitor.class).size(), is(1));
+            assertThat(context.getBeansOfType(AsyncAnnotationBeanPostProcessor.class).size(), is(1));
+
+            var executor = context.getBean(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+                AsyncTaskExecutor.class);
+            var virtual = new CompletableFuture<Boolean>();
+            executor.execute(() -> virtual.complete(Thread.currentThread().isVirtual()));
+            assertThat(virtual.get(), is(true));
+        });
+    }
+}